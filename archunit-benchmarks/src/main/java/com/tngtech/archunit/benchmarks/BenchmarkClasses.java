@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.jar.JarFile;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+/**
+ * The class bases all benchmarks run against. Guava is big enough to make import and rule evaluation costs visible,
+ * and it is on the classpath of this module anyway.
+ */
+public final class BenchmarkClasses {
+    public static final String GUAVA_ROOT_PACKAGE = "com.google.common";
+
+    private BenchmarkClasses() {
+    }
+
+    public static JarFile guavaJar() {
+        try {
+            return new JarFile(new File(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static JavaClasses importGuava() {
+        try (JarFile guavaJar = guavaJar()) {
+            return new ClassFileImporter().importJar(guavaJar);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.tngtech.archunit.benchmarks.BenchmarkClasses.importGuava;
+
+/**
+ * Dependencies are memoized per {@link JavaClass}, so every measured invocation needs a freshly imported graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DependenciesBenchmark {
+    private JavaClasses classes;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        classes = importGuava();
+    }
+
+    @Benchmark
+    public int directDependenciesFromSelf() {
+        int result = 0;
+        for (JavaClass javaClass : classes) {
+            result += javaClass.getDirectDependenciesFromSelf().size();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int directDependenciesToSelf() {
+        int result = 0;
+        for (JavaClass javaClass : classes) {
+            result += javaClass.getDirectDependenciesToSelf().size();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.tngtech.archunit.benchmarks.BenchmarkClasses.GUAVA_ROOT_PACKAGE;
+import static com.tngtech.archunit.benchmarks.BenchmarkClasses.importGuava;
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LayeredArchitectureBenchmark {
+    private JavaClasses classes;
+    private ArchRule rule;
+
+    @Setup
+    public void setUp() {
+        classes = importGuava();
+        rule = layeredArchitecture()
+                .layer("Base").definedBy(GUAVA_ROOT_PACKAGE + ".base..")
+                .layer("Primitives").definedBy(GUAVA_ROOT_PACKAGE + ".primitives..", GUAVA_ROOT_PACKAGE + ".math..")
+                .layer("Collect").definedBy(GUAVA_ROOT_PACKAGE + ".collect..")
+                .layer("Concurrent").definedBy(GUAVA_ROOT_PACKAGE + ".util.concurrent..")
+                .layer("Cache").definedBy(GUAVA_ROOT_PACKAGE + ".cache..")
+                .layer("IO").definedBy(GUAVA_ROOT_PACKAGE + ".io..", GUAVA_ROOT_PACKAGE + ".hash..")
+
+                .whereLayer("Cache").mayNotBeAccessedByAnyLayer()
+                .whereLayer("IO").mayNotBeAccessedByAnyLayer()
+                .whereLayer("Concurrent").mayOnlyBeAccessedByLayers("Cache")
+                .whereLayer("Collect").mayOnlyBeAccessedByLayers("Concurrent", "Cache", "IO")
+                .whereLayer("Primitives").mayOnlyBeAccessedByLayers("Collect", "Concurrent", "Cache", "IO");
+    }
+
+    @Benchmark
+    public EvaluationResult layersShouldBeRespected() {
+        return rule.evaluate(classes);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading all class files of the classpath of this module (i.e. all JAR files ArchUnit and JMH depend on)
+ * via {@link ClassFileLocation#readBytes()}, to reading them via {@link ClassFileLocation#openStream()} into a
+ * growing buffer, which is what ASM does, if it is passed the stream instead of the bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassFileReadingBenchmark {
+    private List<ClassFileLocation> classFileLocations;
+
+    @Setup
+    public void setUp() {
+        ImmutableList.Builder<ClassFileLocation> result = ImmutableList.builder();
+        for (Location location : Locations.inClassPath()) {
+            result.addAll(location.asClassFileSource(new ImportOptions()));
+        }
+        classFileLocations = result.build();
+    }
+
+    @Benchmark
+    public long readExactlySizedBytes() throws IOException {
+        long numberOfBytes = 0;
+        for (ClassFileLocation location : classFileLocations) {
+            numberOfBytes += location.readBytes().length;
+        }
+        return numberOfBytes;
+    }
+
+    @Benchmark
+    public long readBytesFromInputStream() throws IOException {
+        long numberOfBytes = 0;
+        for (ClassFileLocation location : classFileLocations) {
+            try (InputStream inputStream = location.openStream()) {
+                numberOfBytes += ByteStreams.toByteArray(inputStream).length;
+            }
+        }
+        return numberOfBytes;
+    }
+}
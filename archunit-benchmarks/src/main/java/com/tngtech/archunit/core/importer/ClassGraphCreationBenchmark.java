@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.tngtech.archunit.benchmarks.BenchmarkClasses.guavaJar;
+
+/**
+ * Measures {@link ClassGraphCreator#complete()} in isolation, i.e. without parsing the class files.
+ * Completing mutates the recorded classes, so every measured invocation needs a fresh record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClassGraphCreationBenchmark {
+    private final ClassFileProcessor processor = new ClassFileProcessor();
+    private ClassFileImportRecord importRecord;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        try (JarFile guavaJar = guavaJar()) {
+            ClassFileSource source = Location.of(guavaJar).asClassFileSource(new ImportOptions());
+            importRecord = processor.record(source, ClassFileImportCache.create());
+        }
+    }
+
+    @Benchmark
+    public JavaClasses completeClassGraph() {
+        return processor.complete(importRecord);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Measures cycle detection on complete graphs, i.e. the worst case of one single strongly connected component
+ * with a number of elementary cycles far exceeding the configured limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GraphBenchmark {
+    @Param({"10", "100", "300"})
+    private int numberOfNodes;
+
+    @Benchmark
+    public int findCyclesInCompleteGraph() {
+        Graph<Integer, String> graph = new Graph<>(100);
+        for (int node = 0; node < numberOfNodes; node++) {
+            graph.add(node, Collections.<Edge<Integer, String>>emptySet());
+        }
+        for (int from = 0; from < numberOfNodes; from++) {
+            Set<Edge<Integer, String>> edges = new HashSet<>();
+            for (int to = 0; to < numberOfNodes; to++) {
+                if (from != to) {
+                    edges.add(new Edge<>(from, to, singleton(from + "->" + to)));
+                }
+            }
+            graph.add(from, edges);
+        }
+        return graph.getCycles().size();
+    }
+}
@@ -156,7 +156,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
 
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
-            rule.check(classes.get());
+            // NOTE: The same rule instance might be declared by several test classes executed in parallel,
+            //       and conditions may hold state during the evaluation (e.g. to detect cycles)
+            synchronized (rule) {
+                rule.check(classes.get());
+            }
             return context;
         }
     }
@@ -20,15 +20,16 @@ import java.net.URI;
 import java.net.URL;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
-import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaClasses;
-import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.AnnotatedMemberScanner;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.Filter;
@@ -41,12 +42,16 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.ReflectionUtils.withAnnotation;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * A simple test engine to discover and execute ArchUnit tests with JUnit 5. In particular the engine
@@ -65,6 +70,13 @@ import static java.util.stream.Collectors.toList;
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
     static final String UNIQUE_ID = "archunit";
+    /**
+     * Configuration parameter to execute ArchUnit tests concurrently (default is <code>false</code>).
+     * The parallelism can be configured by parameters prefixed with {@value #PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX},
+     * analogously to the parameters of the JUnit Jupiter engine (e.g. <code>strategy</code>, <code>fixed.parallelism</code>, ...).
+     */
+    static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "archunit.junit.execution.parallel.enabled";
+    static final String PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX = "archunit.junit.execution.parallel.config.";
 
     private SharedCache cache = new SharedCache(); // NOTE: We want to change this in tests -> no static/final reference
 
@@ -88,29 +100,35 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
     }
 
     private void resolveRequestedClasspathRoot(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
-        Stream<JavaClass> classes = discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
-                .flatMap(this::getContainedClasses);
-        filterCandidatesAndLoadClasses(classes, discoveryRequest)
+        Set<Location> locations = discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
+                .map(selector -> Location.of(toUrl(selector.getClasspathRoot())))
+                .collect(toSet());
+        filterCandidatesAndLoadClasses(findArchUnitTestCandidatesIn(locations), discoveryRequest)
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
 
     private void resolveRequestedPackages(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
-        String[] packages = discoveryRequest.getSelectorsByType(PackageSelector.class).stream()
+        Set<Location> locations = discoveryRequest.getSelectorsByType(PackageSelector.class).stream()
                 .map(PackageSelector::getPackageName)
-                .toArray(String[]::new);
-        Stream<JavaClass> classes = getContainedClasses(packages);
+                .flatMap(packageName -> Locations.ofPackage(packageName).stream())
+                .collect(toSet());
 
-        filterCandidatesAndLoadClasses(classes, discoveryRequest)
+        filterCandidatesAndLoadClasses(findArchUnitTestCandidatesIn(locations), discoveryRequest)
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
 
-    private Stream<Class<?>> filterCandidatesAndLoadClasses(Stream<JavaClass> classes, EngineDiscoveryRequest discoveryRequest) {
-        return classes
+    // NOTE: Discovery only needs to know, which classes have members annotated with @ArchTest. Thus we do not import
+    //       any JavaClasses here, but only scan the class file headers, which is proportional to the number of class files
+    private Stream<String> findArchUnitTestCandidatesIn(Set<Location> locations) {
+        return new AnnotatedMemberScanner(ArchTest.class).findClassNamesIn(locations).stream();
+    }
+
+    private Stream<Class<?>> filterCandidatesAndLoadClasses(Stream<String> classNames, EngineDiscoveryRequest discoveryRequest) {
+        return classNames
                 .filter(isAllowedBy(discoveryRequest))
-                .filter(this::isArchUnitTestCandidate)
-                .flatMap(this::safelyReflect);
+                .flatMap(this::safelyLoad);
     }
 
     private void resolveRequestedClasses(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
@@ -142,37 +160,21 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
                         result, ElementResolver.create(result, uniqueId, selector.getUniqueId()), cache.get()));
     }
 
-    private Stream<JavaClass> getContainedClasses(String[] packages) {
-        return stream(new ClassFileImporter().importPackages(packages));
-    }
-
-    private Stream<JavaClass> getContainedClasses(ClasspathRootSelector selector) {
-        return stream(new ClassFileImporter().importUrl(toUrl(selector.getClasspathRoot())));
-    }
-
-    private Stream<JavaClass> stream(JavaClasses classes) {
-        return StreamSupport.stream(classes.spliterator(), false);
-    }
-
-    private Predicate<JavaClass> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
+    private Predicate<String> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
         List<Predicate<String>> filters = Stream
                 .concat(discoveryRequest.getFiltersByType(ClassNameFilter.class).stream(),
                         discoveryRequest.getFiltersByType(PackageNameFilter.class).stream())
                 .map(Filter::toPredicate)
                 .collect(toList());
 
-        return javaClass -> filters.stream().allMatch(p -> p.test(javaClass.getName()));
-    }
-
-    private boolean isArchUnitTestCandidate(JavaClass javaClass) {
-        return javaClass.getAllMembers().stream().anyMatch(m -> m.isAnnotatedWith(ArchTest.class));
+        return className -> filters.stream().allMatch(p -> p.test(className));
     }
 
     @MayResolveTypesViaReflection(reason = "Within the ArchUnitTestEngine we may resolve types via reflection, since they are needed anyway")
-    private Stream<Class<?>> safelyReflect(JavaClass javaClass) {
+    private Stream<Class<?>> safelyLoad(String className) {
         try {
-            return Stream.of(javaClass.reflect());
-        } catch (NoClassDefFoundError | RuntimeException e) {
+            return Stream.of(Class.forName(className, false, getClass().getClassLoader()));
+        } catch (NoClassDefFoundError | ClassNotFoundException | RuntimeException e) {
             return Stream.empty();
         }
     }
@@ -194,6 +196,16 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         }
     }
 
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+        if (!configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+            return super.createExecutorService(request);
+        }
+        return new ForkJoinPoolHierarchicalTestExecutorService(
+                new PrefixedConfigurationParameters(configurationParameters, PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX));
+    }
+
     @Override
     protected ArchUnitEngineExecutionContext createExecutionContext(ExecutionRequest request) {
         return new ArchUnitEngineExecutionContext();
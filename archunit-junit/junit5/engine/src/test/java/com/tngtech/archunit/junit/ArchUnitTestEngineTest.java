@@ -58,6 +58,8 @@ import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.CLASS_SEGMENT_TYPE;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.FIELD_SEGMENT_TYPE;
 import static com.tngtech.archunit.junit.ArchUnitTestDescriptor.METHOD_SEGMENT_TYPE;
+import static com.tngtech.archunit.junit.ArchUnitTestEngine.PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX;
+import static com.tngtech.archunit.junit.ArchUnitTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static com.tngtech.archunit.junit.EngineExecutionTestListener.onlyElement;
 import static com.tngtech.archunit.junit.testexamples.TestFieldWithTags.FIELD_WITH_TAG_NAME;
 import static com.tngtech.archunit.junit.testexamples.TestMethodWithTags.METHOD_WITH_TAG_NAME;
@@ -748,6 +750,23 @@ class ArchUnitTestEngineTest {
             testListener.verifyViolation(methodRuleInLibrary, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
         }
 
+        @Test
+        void rules_in_parallel_if_configured() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleField.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                    .withClass(SimpleRuleLibrary.class)
+                    .withClass(SimpleRuleField.class)
+                    .withConfigurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+                    .withConfigurationParameter(PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX + "strategy", "fixed")
+                    .withConfigurationParameter(PARALLEL_EXECUTION_CONFIG_PROPERTY_PREFIX + "fixed.parallelism", "4"));
+
+            getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                    testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+            testListener.verifySuccessful(simpleRuleFieldTestId(engineId));
+        }
+
         @Test
         void passes_AnalyzeClasses_to_cache() {
             execute(createEngineId(), FullAnalyzeClassesSpec.class);
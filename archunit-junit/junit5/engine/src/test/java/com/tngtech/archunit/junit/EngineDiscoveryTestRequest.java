@@ -5,7 +5,9 @@ import java.lang.reflect.Method;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -40,6 +42,8 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
     private final List<ClassNameFilter> classNameFilters = new ArrayList<>();
     private final List<PackageNameFilter> packageNameFilters = new ArrayList<>();
 
+    private final Map<String, String> configurationParameters = new HashMap<>();
+
     @Override
     @SuppressWarnings("unchecked") // compatibility is explicitly checked
     public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
@@ -102,7 +106,7 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
 
     @Override
     public ConfigurationParameters getConfigurationParameters() {
-        return new EmptyConfigurationParameters();
+        return new MapConfigurationParameters(configurationParameters);
     }
 
     EngineDiscoveryTestRequest withClasspathRoot(URI uri) {
@@ -135,6 +139,11 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
         return this;
     }
 
+    EngineDiscoveryTestRequest withConfigurationParameter(String key, String value) {
+        configurationParameters.put(key, value);
+        return this;
+    }
+
     EngineDiscoveryTestRequest withMethod(Class<?> clazz, String methodName) {
         try {
             methodsToDiscover.add(clazz.getDeclaredMethod(methodName, JavaClasses.class));
@@ -153,20 +162,26 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
         return this;
     }
 
-    private static class EmptyConfigurationParameters implements ConfigurationParameters {
+    private static class MapConfigurationParameters implements ConfigurationParameters {
+        private final Map<String, String> parameters;
+
+        private MapConfigurationParameters(Map<String, String> parameters) {
+            this.parameters = new HashMap<>(parameters);
+        }
+
         @Override
         public Optional<String> get(String key) {
-            return Optional.empty();
+            return Optional.ofNullable(parameters.get(key));
         }
 
         @Override
         public Optional<Boolean> getBoolean(String key) {
-            return Optional.empty();
+            return get(key).map(Boolean::parseBoolean);
         }
 
         @Override
         public int size() {
-            return 0;
+            return parameters.size();
         }
     }
 }
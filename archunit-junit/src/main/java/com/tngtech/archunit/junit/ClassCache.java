@@ -15,18 +15,21 @@
  */
 package com.tngtech.archunit.junit;
 
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
@@ -34,6 +37,7 @@ import com.tngtech.archunit.core.importer.ImportOptions;
 import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.core.importer.Locations;
 
+import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.junit.CacheMode.FOREVER;
 import static com.tngtech.archunit.junit.ReflectionUtils.newInstanceOf;
@@ -50,10 +54,14 @@ import static com.tngtech.archunit.junit.ReflectionUtils.newInstanceOf;
  * may dramatically reduce performance, if multiple test classes are executed.
  * The cache will hold imported classes as long as there is sufficient memory, and reuse them, if the same
  * locations (i.e. URLs) are imported.
+ * <br><br>
+ * Within one JVM the cache can only share imported classes between test classes. To share them between the
+ * test JVMs forked by a build, an import snapshot directory can be configured
+ * (compare {@link ArchConfiguration#getImportSnapshotDirectory()}).
  */
 class ClassCache {
     @VisibleForTesting
-    final Map<Class<?>, JavaClasses> cachedByTest = new ConcurrentHashMap<>();
+    final ConcurrentMap<Class<?>, LazyJavaClasses> cachedByTest = new ConcurrentHashMap<>();
     @VisibleForTesting
     final LoadingCache<LocationsKey, LazyJavaClasses> cachedByLocations =
             CacheBuilder.newBuilder().softValues().build(new CacheLoader<LocationsKey, LazyJavaClasses>() {
@@ -65,22 +73,27 @@ class ClassCache {
 
     private CacheClassFileImporter cacheClassFileImporter = new CacheClassFileImporter();
 
+    // NOTE: Tests might request their classes concurrently (e.g. if a test engine executes tests in parallel).
+    //       Each test class is associated with exactly one LazyJavaClasses, which imports its classes only once,
+    //       no matter how many threads request them. The imported classes are not modified anymore after the import.
     JavaClasses getClassesToAnalyzeFor(Class<?> testClass, ClassAnalysisRequest classAnalysisRequest) {
         checkNotNull(testClass);
         checkNotNull(classAnalysisRequest);
 
-        if (cachedByTest.containsKey(testClass)) {
-            return cachedByTest.get(testClass);
+        LazyJavaClasses classes = cachedByTest.get(testClass);
+        if (classes == null) {
+            LazyJavaClasses newClasses = lazyClassesFor(testClass, classAnalysisRequest);
+            classes = firstNonNull(cachedByTest.putIfAbsent(testClass, newClasses), newClasses);
         }
+        return classes.get();
+    }
 
+    private LazyJavaClasses lazyClassesFor(Class<?> testClass, ClassAnalysisRequest classAnalysisRequest) {
         LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
 
-        JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
-                ? cachedByLocations.getUnchecked(locations).get()
-                : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
-
-        cachedByTest.put(testClass, classes);
-        return classes;
+        return classAnalysisRequest.getCacheMode() == FOREVER
+                ? cachedByLocations.getUnchecked(locations)
+                : new LazyJavaClasses(locations.locations, locations.importOptionTypes);
     }
 
     void clear(Class<?> testClass) {
@@ -117,8 +130,14 @@ class ClassCache {
 
     // Used for testing -> that's also the reason it's declared top level
     static class CacheClassFileImporter {
+        // NOTE: If a snapshot directory is configured, the classes of the same locations and import options
+        //       are imported only once, no matter how many test JVMs are forked by the build
         JavaClasses importClasses(ImportOptions importOptions, Collection<Location> locations) {
-            return new ClassFileImporter(importOptions).importLocations(locations);
+            ClassFileImporter importer = new ClassFileImporter(importOptions);
+            Optional<String> snapshotDirectory = ArchConfiguration.get().getImportSnapshotDirectory();
+            return snapshotDirectory.isPresent()
+                    ? importer.importLocationsUsingSnapshot(locations, Paths.get(snapshotDirectory.get()))
+                    : importer.importLocations(locations);
         }
     }
 
@@ -21,6 +21,7 @@ import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
 import java.lang.module.ModuleReference;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -168,6 +169,20 @@ class ModuleLocationFactory implements Location.Factory {
             return doWithModuleReader(moduleReference, moduleReader -> moduleReader.open(entry.toString()).get());
         }
 
+        @Override
+        public byte[] readBytes() {
+            return doWithModuleReader(moduleReference, moduleReader -> {
+                ByteBuffer buffer = moduleReader.read(entry.toString()).get();
+                try {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    return bytes;
+                } finally {
+                    moduleReader.release(buffer);
+                }
+            });
+        }
+
         @Override
         public URI getUri() {
             return location.asURI();
@@ -33,6 +33,7 @@ import com.google.common.collect.ImmutableMap;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 /**
@@ -43,16 +44,38 @@ public final class ArchConfiguration {
     public static final String ARCHUNIT_PROPERTIES_RESOURCE_NAME = "/archunit.properties";
     @Internal // {@value ...} doesn't work on non public constants outside of the package
     public static final String RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH = "resolveMissingDependenciesFromClassPath";
+    @Internal
+    public static final String MAX_TRANSITIVE_RESOLUTION_DEPTH = "resolveMissingDependencies.maxTransitiveDepth";
+    @Internal
+    public static final String MAX_NUMBER_OF_TRANSITIVELY_RESOLVED_CLASSES = "resolveMissingDependencies.maxTransitiveClasses";
     static final String CLASS_RESOLVER = "classResolver";
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String ENABLE_PARALLEL_IMPORT = "enableParallelImport";
+    @Internal
+    public static final String ENABLE_PARALLEL_EVALUATION = "enableParallelEvaluation";
+    @Internal
+    public static final String IMPORT_CACHE_DIRECTORY = "importCacheDirectory";
+    @Internal
+    public static final String IMPORT_SNAPSHOT_DIRECTORY = "importSnapshotDirectory";
+    @Internal
+    public static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_PER_COMPONENT = "cycles.maxNumberToDetectPerComponent";
+    @Internal
+    public static final String MAX_NUMBER_OF_VIOLATIONS_PER_RULE = "evaluation.maxViolationsPerRule";
     private static final Pattern EXTENSION_PROP___GROUP_ONE_ID_GROUP_TWO_KEY = Pattern.compile("^extension\\.([^.]+)\\.(.+)");
 
-    private static final Map<String, String> PROPERTY_DEFAULTS = ImmutableMap.of(
-            RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, "" + false,
-            ENABLE_MD5_IN_CLASS_SOURCES, "" + false
-    );
+    private static final Map<String, String> PROPERTY_DEFAULTS = ImmutableMap.<String, String>builder()
+            .put(RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, "" + false)
+            .put(MAX_TRANSITIVE_RESOLUTION_DEPTH, "" + 0)
+            .put(MAX_NUMBER_OF_TRANSITIVELY_RESOLVED_CLASSES, "" + 5000)
+            .put(ENABLE_MD5_IN_CLASS_SOURCES, "" + false)
+            .put(ENABLE_PARALLEL_IMPORT, "" + false)
+            .put(ENABLE_PARALLEL_EVALUATION, "" + false)
+            .put(MAX_NUMBER_OF_CYCLES_TO_DETECT_PER_COMPONENT, "" + 100)
+            .put(MAX_NUMBER_OF_VIOLATIONS_PER_RULE, "" + Integer.MAX_VALUE)
+            .build();
 
     private static final Supplier<ArchConfiguration> INSTANCE = Suppliers.memoize(new Supplier<ArchConfiguration>() {
         @Override
@@ -68,9 +91,17 @@ public final class ArchConfiguration {
 
     private final String propertiesResourceName;
     private boolean resolveMissingDependenciesFromClassPath;
+    private int maxTransitiveResolutionDepth;
+    private int maxNumberOfTransitivelyResolvedClasses;
     private Optional<String> classResolver = Optional.absent();
     private List<String> classResolverArguments = Collections.emptyList();
     private boolean enableMd5InClassSources;
+    private boolean enableParallelImport;
+    private boolean enableParallelEvaluation;
+    private Optional<String> importCacheDirectory = Optional.absent();
+    private Optional<String> importSnapshotDirectory = Optional.absent();
+    private int maxNumberOfCyclesToDetectPerComponent;
+    private int maxNumberOfViolationsPerRule;
 
     private final Map<String, Properties> extensionProperties = new ConcurrentHashMap<>();
 
@@ -109,14 +140,59 @@ public final class ArchConfiguration {
         resolveMissingDependenciesFromClassPath = newValue;
     }
 
+    /**
+     * @return The maximum depth up to which missing classes are resolved transitively, i.e. 1 means that
+     *         the classes referenced by imported classes are resolved, 2 means that additionally the classes referenced
+     *         by those resolved classes are resolved, and so on. 0 (the default) disables transitive resolution.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxTransitiveResolutionDepth() {
+        return maxTransitiveResolutionDepth;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxTransitiveResolutionDepth(int maxDepth) {
+        checkArgument(maxDepth >= 0, "The maximum depth of transitive resolution must not be negative, but was %s", maxDepth);
+        this.maxTransitiveResolutionDepth = maxDepth;
+    }
+
+    /**
+     * @return The maximum number of classes resolved transitively during a single import, regardless of the
+     *         {@link #getMaxTransitiveResolutionDepth() maximum depth}
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxNumberOfTransitivelyResolvedClasses() {
+        return maxNumberOfTransitivelyResolvedClasses;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxNumberOfTransitivelyResolvedClasses(int maxNumber) {
+        checkArgument(maxNumber >= 0, "The maximum number of transitively resolved classes must not be negative, but was %s", maxNumber);
+        this.maxNumberOfTransitivelyResolvedClasses = maxNumber;
+    }
+
     private void set(Properties properties) {
         resolveMissingDependenciesFromClassPath = Boolean.valueOf(
                 propertyOrDefault(properties, RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH));
+        maxTransitiveResolutionDepth = Integer.parseInt(
+                propertyOrDefault(properties, MAX_TRANSITIVE_RESOLUTION_DEPTH));
+        maxNumberOfTransitivelyResolvedClasses = Integer.parseInt(
+                propertyOrDefault(properties, MAX_NUMBER_OF_TRANSITIVELY_RESOLVED_CLASSES));
         classResolver = Optional.fromNullable(properties.getProperty(CLASS_RESOLVER));
         classResolverArguments = Splitter.on(",").trimResults().omitEmptyStrings()
                 .splitToList(properties.getProperty(CLASS_RESOLVER_ARGS, ""));
         enableMd5InClassSources = Boolean.valueOf(
                 propertyOrDefault(properties, ENABLE_MD5_IN_CLASS_SOURCES));
+        enableParallelImport = Boolean.valueOf(
+                propertyOrDefault(properties, ENABLE_PARALLEL_IMPORT));
+        enableParallelEvaluation = Boolean.valueOf(
+                propertyOrDefault(properties, ENABLE_PARALLEL_EVALUATION));
+        importCacheDirectory = Optional.fromNullable(properties.getProperty(IMPORT_CACHE_DIRECTORY));
+        importSnapshotDirectory = Optional.fromNullable(properties.getProperty(IMPORT_SNAPSHOT_DIRECTORY));
+        maxNumberOfCyclesToDetectPerComponent = Integer.parseInt(
+                propertyOrDefault(properties, MAX_NUMBER_OF_CYCLES_TO_DETECT_PER_COMPONENT));
+        maxNumberOfViolationsPerRule = Integer.parseInt(
+                propertyOrDefault(properties, MAX_NUMBER_OF_VIOLATIONS_PER_RULE));
 
         parseExtensionProperties(properties);
     }
@@ -143,6 +219,92 @@ public final class ArchConfiguration {
         this.enableMd5InClassSources = enabled;
     }
 
+    @PublicAPI(usage = ACCESS)
+    public boolean parallelImportEnabled() {
+        return enableParallelImport;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setParallelImportEnabled(boolean enabled) {
+        this.enableParallelImport = enabled;
+    }
+
+    /**
+     * @return true, if rules check their objects in parallel, as far as the respective condition supports this
+     *         (compare {@link com.tngtech.archunit.lang.ArchCondition#supportsConcurrentChecks()})
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean parallelEvaluationEnabled() {
+        return enableParallelEvaluation;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setParallelEvaluationEnabled(boolean enabled) {
+        this.enableParallelEvaluation = enabled;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getImportCacheDirectory() {
+        return importCacheDirectory;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportCacheDirectory(String directory) {
+        this.importCacheDirectory = Optional.of(directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetImportCacheDirectory() {
+        this.importCacheDirectory = Optional.absent();
+    }
+
+    /**
+     * @return The directory, where snapshots of imported classes are shared between several JVMs, e.g. between
+     *         the forked test JVMs of a build (compare
+     *         {@link com.tngtech.archunit.core.importer.ClassFileImporter#importLocationsUsingSnapshot(java.util.Collection, java.nio.file.Path)})
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getImportSnapshotDirectory() {
+        return importSnapshotDirectory;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportSnapshotDirectory(String directory) {
+        this.importSnapshotDirectory = Optional.of(directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetImportSnapshotDirectory() {
+        this.importSnapshotDirectory = Optional.absent();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public int getMaxNumberOfCyclesToDetectPerComponent() {
+        return maxNumberOfCyclesToDetectPerComponent;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxNumberOfCyclesToDetectPerComponent(int maxNumber) {
+        checkArgument(maxNumber > 0, "The maximum number of cycles to detect must be positive, but was %s", maxNumber);
+        this.maxNumberOfCyclesToDetectPerComponent = maxNumber;
+    }
+
+    /**
+     * @return The maximum number of violations a single rule reports, unless the rule specifies its own
+     *         maximum (compare {@link com.tngtech.archunit.lang.ArchRule#limitViolationsTo(int)}). Once this number
+     *         is reached, the evaluation of the rule stops. Unlimited by default.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxNumberOfViolationsPerRule() {
+        return maxNumberOfViolationsPerRule;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxNumberOfViolationsPerRule(int maxNumber) {
+        checkArgument(maxNumber > 0, "The maximum number of violations per rule must be positive, but was %s", maxNumber);
+        this.maxNumberOfViolationsPerRule = maxNumber;
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return classResolver;
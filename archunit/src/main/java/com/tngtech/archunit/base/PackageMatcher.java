@@ -16,8 +16,11 @@
 package com.tngtech.archunit.base;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -61,8 +64,13 @@ public final class PackageMatcher {
 
     private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.');
 
+    // NOTE: A code base has far fewer distinct package names than classes, thus the result of matching
+    //       each package name is cached. The limit only protects against unbounded growth of long living matchers
+    static final int MAX_NUMBER_OF_CACHED_PACKAGES = 10000;
+
     private final String packageIdentifier;
     private final Pattern packagePattern;
+    private final ConcurrentMap<String, Optional<Result>> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
@@ -118,7 +126,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return match(aPackage).isPresent();
     }
 
     /**
@@ -132,6 +140,17 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
+        Optional<Result> result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = matchPattern(aPackage);
+            if (resultsByPackage.size() < MAX_NUMBER_OF_CACHED_PACKAGES) {
+                resultsByPackage.put(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    private Optional<Result> matchPattern(String aPackage) {
         Matcher matcher = packagePattern.matcher(aPackage);
         return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.<Result>absent();
     }
@@ -142,20 +161,25 @@ public final class PackageMatcher {
     }
 
     public static final class Result {
-        private final Matcher matcher;
+        // NOTE: Results are cached and shared, thus we must not keep the (mutable) Matcher itself
+        private final List<String> groups;
 
         private Result(Matcher matcher) {
-            this.matcher = matcher;
+            List<String> groups = new ArrayList<>();
+            for (int i = 0; i <= matcher.groupCount(); i++) {
+                groups.add(matcher.group(i));
+            }
+            this.groups = Collections.unmodifiableList(groups);
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.size() - 1;
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            return groups.get(number);
         }
     }
 
@@ -17,6 +17,8 @@ package com.tngtech.archunit.base;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
@@ -27,6 +29,7 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
     private final Set<PackageMatcher> packageMatchers;
+    private final ConcurrentMap<String, Boolean> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of ['%s']", Joiner.on("', '").join(packageIdentifiers));
@@ -50,10 +53,22 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean apply(String aPackage) {
-        boolean matches = false;
+        Boolean result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = anyMatches(aPackage);
+            if (resultsByPackage.size() < PackageMatcher.MAX_NUMBER_OF_CACHED_PACKAGES) {
+                resultsByPackage.put(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    private boolean anyMatches(String aPackage) {
         for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+            if (matcher.matches(aPackage)) {
+                return true;
+            }
         }
-        return matches;
+        return false;
     }
 }
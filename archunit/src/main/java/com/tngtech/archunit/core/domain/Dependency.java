@@ -47,56 +47,44 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
     private final JavaClass originClass;
     private final JavaClass targetClass;
     private final int lineNumber;
-    private final String description;
-
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
+    private final Type type;
+    private final Object origin;
+    private volatile String description;
+
+    /**
+     * @param origin The structured origin of the dependency, i.e. the {@link JavaAccess} for accesses,
+     *               the {@link JavaMember} for member types and the origin {@link JavaClass} for inheritance
+     */
+    private Dependency(Type type, Object origin, JavaClass originClass, JavaClass targetClass, int lineNumber) {
+        this.type = type;
+        this.origin = origin;
         this.originClass = originClass;
         this.targetClass = targetClass;
         this.lineNumber = lineNumber;
-        this.description = description;
     }
 
     static Dependency from(JavaAccess<?> access) {
-        return new Dependency(access.getOriginOwner(), access.getTargetOwner(), access.getLineNumber(), access.getDescription());
+        return new Dependency(Type.ACCESS, access, access.getOriginOwner(), access.getTargetOwner(), access.getLineNumber());
     }
 
     static Dependency fromInheritance(JavaClass origin, JavaClass targetSuperType) {
-        String originType = origin.isInterface() ? "Interface" : "Class";
-        String originDescription = originType + " " + bracketFormat(origin.getName());
-
-        String dependencyType = !origin.isInterface() && targetSuperType.isInterface() ? "implements" : "extends";
-
-        String targetType = targetSuperType.isInterface() ? "interface" : "class";
-        String targetDescription = bracketFormat(targetSuperType.getName());
-
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
-
-        String description = dependencyDescription + " in " + formatLocation(origin, 0);
-        return new Dependency(origin, targetSuperType, 0, description);
+        return new Dependency(Type.INHERITANCE, origin, origin, targetSuperType, 0);
     }
 
     static Dependency fromField(JavaField field) {
-        return createDependencyFromJavaMember("Field", field, "has type", field.getType());
+        return new Dependency(Type.FIELD_TYPE, field, field.getOwner(), field.getType(), 0);
     }
 
     static Dependency fromReturnType(JavaMethod method) {
-        return createDependencyFromJavaMember("Method", method, "has return type", method.getReturnType());
+        return new Dependency(Type.RETURN_TYPE, method, method.getOwner(), method.getReturnType(), 0);
     }
 
     static Dependency fromParameter(JavaMethod method, JavaClass parameter) {
-        return createDependencyFromJavaMember("Method", method, "has parameter of type", parameter);
+        return new Dependency(Type.METHOD_PARAMETER_TYPE, method, method.getOwner(), parameter, 0);
     }
 
     static Dependency fromParameter(JavaConstructor constructor, JavaClass parameter) {
-        return createDependencyFromJavaMember("Constructor", constructor, "has parameter of type", parameter);
-    }
-
-    private static Dependency createDependencyFromJavaMember(String memberType, JavaMember origin, String dependencyType, JavaClass target) {
-        String originDescription = memberType + " " + bracketFormat(origin.getFullName());
-        String targetDescription = bracketFormat(target.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + formatLocation(origin.getOwner(), 0);
-        return new Dependency(origin.getOwner(), target, 0, description);
+        return new Dependency(Type.CONSTRUCTOR_PARAMETER_TYPE, constructor, constructor.getOwner(), parameter, 0);
     }
 
     private static String bracketFormat(String name) {
@@ -113,14 +101,27 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
         return targetClass;
     }
 
+    /**
+     * The description is only rendered on demand (e.g. for a violation message), since the vast majority
+     * of dependencies is never reported.
+     */
     @Override
     public String getDescription() {
-        return description;
+        String result = description;
+        if (result == null) {
+            description = result = type.describe(this);
+        }
+        return result;
     }
 
+    // NOTE: Dependencies on the same line are still ordered by description, so reports keep listing them in
+    //       their familiar (alphabetical) order. Rendering the description is only necessary for this tie-break.
     @Override
     @PublicAPI(usage = ACCESS)
     public int compareTo(Dependency o) {
+        if (this.equals(o)) {
+            return 0;
+        }
         return ComparisonChain.start()
                 .compare(lineNumber, o.lineNumber)
                 .compare(getDescription(), o.getDescription())
@@ -129,7 +130,7 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(originClass, targetClass, lineNumber, description);
+        return Objects.hash(type, origin, targetClass, lineNumber);
     }
 
     @Override
@@ -141,10 +142,11 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
             return false;
         }
         final Dependency other = (Dependency) obj;
-        return Objects.equals(this.originClass, other.originClass)
+        return Objects.equals(this.type, other.type)
+                && Objects.equals(this.origin, other.origin)
+                && Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
-                && Objects.equals(this.lineNumber, other.lineNumber)
-                && Objects.equals(this.description, other.description);
+                && Objects.equals(this.lineNumber, other.lineNumber);
     }
 
     @Override
@@ -153,7 +155,7 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("lineNumber", lineNumber)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -240,4 +242,56 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
             }
         };
     }
+
+    private enum Type {
+        ACCESS {
+            @Override
+            String describe(Dependency dependency) {
+                return ((JavaAccess<?>) dependency.origin).getDescription();
+            }
+        },
+        INHERITANCE {
+            @Override
+            String describe(Dependency dependency) {
+                JavaClass origin = dependency.originClass;
+                JavaClass targetSuperType = dependency.targetClass;
+
+                String originType = origin.isInterface() ? "Interface" : "Class";
+                String originDescription = originType + " " + bracketFormat(origin.getName());
+
+                String dependencyType = !origin.isInterface() && targetSuperType.isInterface() ? "implements" : "extends";
+
+                String targetType = targetSuperType.isInterface() ? "interface" : "class";
+                String targetDescription = bracketFormat(targetSuperType.getName());
+
+                String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
+
+                return dependencyDescription + " in " + formatLocation(origin, 0);
+            }
+        },
+        FIELD_TYPE("Field", "has type"),
+        RETURN_TYPE("Method", "has return type"),
+        METHOD_PARAMETER_TYPE("Method", "has parameter of type"),
+        CONSTRUCTOR_PARAMETER_TYPE("Constructor", "has parameter of type");
+
+        private final String memberType;
+        private final String dependencyType;
+
+        Type() {
+            this(null, null);
+        }
+
+        Type(String memberType, String dependencyType) {
+            this.memberType = memberType;
+            this.dependencyType = dependencyType;
+        }
+
+        String describe(Dependency dependency) {
+            JavaMember origin = (JavaMember) dependency.origin;
+            String originDescription = memberType + " " + bracketFormat(origin.getFullName());
+            String targetDescription = bracketFormat(dependency.targetClass.getName());
+            String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
+            return dependencyDescription + " in " + formatLocation(origin.getOwner(), 0);
+        }
+    }
 }
@@ -17,7 +17,6 @@ package com.tngtech.archunit.core.domain;
 
 import java.net.URI;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,7 +27,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.SetMultimap;
 import com.tngtech.archunit.Internal;
-import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.importer.DomainBuilders;
 import com.tngtech.archunit.core.importer.DomainBuilders.ConstructorCallTargetBuilder;
@@ -131,6 +129,10 @@ public class DomainObjectCreationContext {
         return new Source(uri, sourceFileName);
     }
 
+    public static Source createSource(URI uri, Optional<String> sourceFileName, byte[] bytes) {
+        return new Source(uri, sourceFileName, bytes);
+    }
+
     static class AccessContext {
         final SetMultimap<JavaClass, JavaFieldAccess> fieldAccessesByTarget = HashMultimap.create();
         final SetMultimap<JavaClass, JavaMethodCall> methodCallsByTarget = HashMultimap.create();
@@ -164,18 +166,46 @@ public class DomainObjectCreationContext {
 
         static class TopProcess extends AccessContext {
             private final Collection<JavaClass> classes;
+            private final Supplier<SetMultimap<JavaField, JavaFieldAccess>> fieldAccessesByResolvedTarget =
+                    Suppliers.memoize(new Supplier<SetMultimap<JavaField, JavaFieldAccess>>() {
+                        @Override
+                        public SetMultimap<JavaField, JavaFieldAccess> get() {
+                            SetMultimap<JavaField, JavaFieldAccess> result = HashMultimap.create();
+                            for (JavaFieldAccess access : fieldAccessesByTarget.values()) {
+                                for (JavaField field : access.getTarget().resolveField().asSet()) {
+                                    result.put(field, access);
+                                }
+                            }
+                            return result;
+                        }
+                    });
+            private final Supplier<SetMultimap<JavaMethod, JavaMethodCall>> methodCallsByResolvedTarget =
+                    Suppliers.memoize(new Supplier<SetMultimap<JavaMethod, JavaMethodCall>>() {
+                        @Override
+                        public SetMultimap<JavaMethod, JavaMethodCall> get() {
+                            SetMultimap<JavaMethod, JavaMethodCall> result = HashMultimap.create();
+                            for (JavaMethodCall call : methodCallsByTarget.values()) {
+                                for (JavaMethod method : call.getTarget().resolve()) {
+                                    result.put(method, call);
+                                }
+                            }
+                            return result;
+                        }
+                    });
 
             TopProcess(Collection<JavaClass> classes) {
                 this.classes = classes;
             }
 
+            // NOTE: Every access is resolved exactly once, when the first member is asked for its accesses,
+            //       instead of scanning all accesses to the owner and its subclasses for every single member
             void finish() {
                 for (JavaClass clazz : classes) {
                     for (JavaField field : clazz.getFields()) {
-                        field.registerAccessesToField(getFieldAccessesTo(field));
+                        field.registerAccessesToField(lookUp(fieldAccessesByResolvedTarget, field));
                     }
                     for (JavaMethod method : clazz.getMethods()) {
-                        method.registerCallsToMethod(getMethodCallsOf(method));
+                        method.registerCallsToMethod(lookUp(methodCallsByResolvedTarget, method));
                     }
                     for (final JavaConstructor constructor : clazz.getConstructors()) {
                         constructor.registerCallsToConstructor(constructorCallsByTarget.get(constructor.getFullName()));
@@ -183,61 +213,13 @@ public class DomainObjectCreationContext {
                 }
             }
 
-            private Supplier<Set<JavaFieldAccess>> getFieldAccessesTo(final JavaField field) {
-                return newAccessSupplier(field.getOwner(), fieldAccessTargetResolvesTo(field));
-            }
+            private <MEMBER, ACCESS> Supplier<Set<ACCESS>> lookUp(
+                    final Supplier<SetMultimap<MEMBER, ACCESS>> accessesByResolvedTarget, final MEMBER member) {
 
-            private Function<JavaClass, Set<JavaFieldAccess>> fieldAccessTargetResolvesTo(final JavaField field) {
-                return new Function<JavaClass, Set<JavaFieldAccess>>() {
+                return Suppliers.memoize(new Supplier<Set<ACCESS>>() {
                     @Override
-                    public Set<JavaFieldAccess> apply(JavaClass input) {
-                        Set<JavaFieldAccess> result = new HashSet<>();
-                        for (JavaFieldAccess access : fieldAccessesByTarget.get(input)) {
-                            if (access.getTarget().resolveField().asSet().contains(field)) {
-                                result.add(access);
-                            }
-                        }
-                        return result;
-                    }
-                };
-            }
-
-            private Supplier<Set<JavaMethodCall>> getMethodCallsOf(final JavaMethod method) {
-                return newAccessSupplier(method.getOwner(), methodCallTargetResolvesTo(method));
-            }
-
-            private Function<JavaClass, Set<JavaMethodCall>> methodCallTargetResolvesTo(final JavaMethod method) {
-                return new Function<JavaClass, Set<JavaMethodCall>>() {
-                    @Override
-                    public Set<JavaMethodCall> apply(JavaClass input) {
-                        Set<JavaMethodCall> result = new HashSet<>();
-                        for (JavaMethodCall call : methodCallsByTarget.get(input)) {
-                            if (call.getTarget().resolve().contains(method)) {
-                                result.add(call);
-                            }
-                        }
-                        return result;
-                    }
-                };
-            }
-
-            private <T> Supplier<Set<T>> newAccessSupplier(final JavaClass owner, final Function<JavaClass, Set<T>> doWithEachClass) {
-
-                return Suppliers.memoize(new Supplier<Set<T>>() {
-                    @Override
-                    public Set<T> get() {
-                        ImmutableSet.Builder<T> result = ImmutableSet.builder();
-                        for (final JavaClass javaClass : getPossibleTargetClassesForAccess()) {
-                            result.addAll(doWithEachClass.apply(javaClass));
-                        }
-                        return result.build();
-                    }
-
-                    private Set<JavaClass> getPossibleTargetClassesForAccess() {
-                        return ImmutableSet.<JavaClass>builder()
-                                .add(owner)
-                                .addAll(owner.getAllSubClasses())
-                                .build();
+                    public Set<ACCESS> get() {
+                        return ImmutableSet.copyOf(accessesByResolvedTarget.get().get(member));
                     }
                 });
             }
@@ -38,6 +38,7 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.ResolvesTypesViaReflection;
 import com.tngtech.archunit.core.domain.DomainObjectCreationContext.AccessContext;
@@ -75,6 +76,11 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
     private Optional<JavaClass> superClass = Optional.absent();
     private final Set<JavaClass> interfaces = new HashSet<>();
     private final Set<JavaClass> subClasses = new HashSet<>();
+    // NOTE: The type hierarchy is queried very frequently (e.g. for every class checked by areAssignableTo(..)),
+    //       thus the transitive closures are computed once and cached. Any cached closure, that is affected
+    //       by a class completing its hierarchy later on, is reset (compare completeClassHierarchyFrom(..))
+    private volatile SuperTypes superTypes;
+    private volatile SubTypes subTypes;
     private Optional<JavaClass> enclosingClass = Optional.absent();
     private Supplier<Map<String, JavaAnnotation>> annotations =
             Suppliers.ofInstance(Collections.<String, JavaAnnotation>emptyMap());
@@ -91,6 +97,34 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
                     .build();
         }
     });
+    // NOTE: Dependencies are only queried once the import is complete, so they can be computed once per class
+    //       and shared by all rules, instead of being recreated (including all Dependency objects) on every call
+    private final Supplier<Set<Dependency>> directDependenciesFromSelf = Suppliers.memoize(new Supplier<Set<Dependency>>() {
+        @Override
+        public Set<Dependency> get() {
+            return ImmutableSet.<Dependency>builder()
+                    .addAll(dependenciesFromAccesses(getAccessesFromSelf()))
+                    .addAll(inheritanceDependenciesFromSelf())
+                    .addAll(fieldDependenciesFromSelf())
+                    .addAll(returnTypeDependenciesFromSelf())
+                    .addAll(methodParameterDependenciesFromSelf())
+                    .addAll(constructorParameterDependenciesFromSelf())
+                    .build();
+        }
+    });
+    private final Supplier<Set<Dependency>> directDependenciesToSelf = Suppliers.memoize(new Supplier<Set<Dependency>>() {
+        @Override
+        public Set<Dependency> get() {
+            return ImmutableSet.<Dependency>builder()
+                    .addAll(dependenciesFromAccesses(getAccessesToSelf()))
+                    .addAll(inheritanceDependenciesToSelf())
+                    .addAll(fieldDependenciesToSelf())
+                    .addAll(returnTypeDependenciesToSelf())
+                    .addAll(methodParameterDependenciesToSelf())
+                    .addAll(constructorParameterDependenciesToSelf())
+                    .build();
+        }
+    });
     private MemberDependenciesOnClass memberDependenciesOnClass;
 
     JavaClass(JavaClassBuilder builder) {
@@ -246,10 +280,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public List<JavaClass> getClassHierarchy() {
-        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
-        result.add(this);
-        result.addAll(getAllSuperClasses());
-        return result.build();
+        return getSuperTypes().classHierarchy;
     }
 
     /**
@@ -258,13 +289,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public List<JavaClass> getAllSuperClasses() {
-        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
-        JavaClass current = this;
-        while (current.getSuperClass().isPresent()) {
-            current = current.getSuperClass().get();
-            result.add(current);
-        }
-        return result.build();
+        return getSuperTypes().allSuperClasses;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -279,15 +304,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllInterfaces() {
-        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
-        for (JavaClass i : interfaces) {
-            result.add(i);
-            result.addAll(i.getAllInterfaces());
-        }
-        if (superClass.isPresent()) {
-            result.addAll(superClass.get().getAllInterfaces());
-        }
-        return result.build();
+        return getSuperTypes().allInterfaces;
     }
 
     /**
@@ -300,11 +317,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllClassesSelfIsAssignableTo() {
-        return ImmutableSet.<JavaClass>builder()
-                .add(this)
-                .addAll(getAllSuperClasses())
-                .addAll(getAllInterfaces())
-                .build();
+        return getSuperTypes().allClassesSelfIsAssignableTo;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -314,10 +327,21 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllSubClasses() {
-        Set<JavaClass> result = new HashSet<>();
-        for (JavaClass subClass : subClasses) {
-            result.add(subClass);
-            result.addAll(subClass.getAllSubClasses());
+        return getSubTypes().allSubClasses;
+    }
+
+    private SuperTypes getSuperTypes() {
+        SuperTypes result = superTypes;
+        if (result == null) {
+            result = superTypes = new SuperTypes(this);
+        }
+        return result;
+    }
+
+    private SubTypes getSubTypes() {
+        SubTypes result = subTypes;
+        if (result == null) {
+            result = subTypes = new SubTypes(this);
         }
         return result;
     }
@@ -539,14 +563,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesFromSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        result.addAll(dependenciesFromAccesses(getAccessesFromSelf()));
-        result.addAll(inheritanceDependenciesFromSelf());
-        result.addAll(fieldDependenciesFromSelf());
-        result.addAll(returnTypeDependenciesFromSelf());
-        result.addAll(methodParameterDependenciesFromSelf());
-        result.addAll(constructorParameterDependenciesFromSelf());
-        return result.build();
+        return directDependenciesFromSelf.get();
     }
 
     /**
@@ -557,14 +574,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesToSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        result.addAll(dependenciesFromAccesses(getAccessesToSelf()));
-        result.addAll(inheritanceDependenciesToSelf());
-        result.addAll(fieldDependenciesToSelf());
-        result.addAll(returnTypeDependenciesToSelf());
-        result.addAll(methodParameterDependenciesToSelf());
-        result.addAll(constructorParameterDependenciesToSelf());
-        return result.build();
+        return directDependenciesToSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -651,15 +661,12 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(String typeName) {
-        return isAssignableFrom(GET_NAME.is(equalTo(typeName)));
+        return getSubTypes().namesOfClassesAssignableToSelf.contains(typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .add(this).addAll(getAllSubClasses()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return predicate.apply(this) || anyMatches(getAllSubClasses(), predicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -669,18 +676,15 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(final String typeName) {
-        return isAssignableTo(GET_NAME.is(equalTo(typeName)));
+        return getSuperTypes().namesOfClassesSelfIsAssignableTo.contains(typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .addAll(getClassHierarchy()).addAll(getAllInterfaces()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return anyMatches(getAllClassesSelfIsAssignableTo(), predicate);
     }
 
-    private boolean anyMatches(List<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
+    private boolean anyMatches(Collection<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
         for (JavaClass javaClass : possibleTargets) {
             if (predicate.apply(javaClass)) {
                 return true;
@@ -705,6 +709,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
     void completeClassHierarchyFrom(ImportContext context) {
         completeSuperClassFrom(context);
         completeInterfacesFrom(context);
+        resetSuperTypes();
         allFields = Suppliers.memoize(new Supplier<Set<JavaField>>() {
             @Override
             public Set<JavaField> get() {
@@ -741,6 +746,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         superClass = context.createSuperClass(this);
         if (superClass.isPresent()) {
             superClass.get().subClasses.add(this);
+            superClass.get().resetSubTypes();
         }
     }
 
@@ -748,6 +754,29 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         interfaces.addAll(context.createInterfaces(this));
         for (JavaClass i : interfaces) {
             i.subClasses.add(this);
+            i.resetSubTypes();
+        }
+    }
+
+    // NOTE: A cached closure can only have been computed from the cached closures of the respective sub/super types,
+    //       thus, if no closure is cached for this class, there can't be any affected closure further down/up
+    private void resetSuperTypes() {
+        if (superTypes == null) {
+            return;
+        }
+        superTypes = null;
+        for (JavaClass subClass : subClasses) {
+            subClass.resetSuperTypes();
+        }
+    }
+
+    private void resetSubTypes() {
+        if (subTypes == null) {
+            return;
+        }
+        subTypes = null;
+        for (JavaClass superType : concat(superClass.asSet(), interfaces)) {
+            superType.resetSubTypes();
         }
     }
 
@@ -1115,12 +1144,12 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(final String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToTypeNamePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableFrom(final String typeName) {
-            return assignableFrom(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableFromTypeNamePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1180,11 +1209,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
-            final Set<PackageMatcher> packageMatchers = new HashSet<>();
-            for (String identifier : packageIdentifiers) {
-                packageMatchers.add(PackageMatcher.of(identifier));
-            }
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1263,6 +1288,36 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
             }
         }
 
+        // NOTE: Assignability to a type name can be looked up within the cached type hierarchy,
+        //       which is considerably faster than testing a predicate against every super type
+        private static class AssignableToTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableToTypeNamePredicate(String typeName) {
+                super("assignable to " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableTo(typeName);
+            }
+        }
+
+        private static class AssignableFromTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableFromTypeNamePredicate(String typeName) {
+                super("assignable from " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableFrom(typeName);
+            }
+        }
+
         private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
             private final DescribedPredicate<? super JavaClass> predicate;
 
@@ -1278,21 +1333,16 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final PackageMatchers packageMatchers;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean apply(JavaClass input) {
-                for (PackageMatcher matcher : packageMatchers) {
-                    if (matcher.matches(input.getPackageName())) {
-                        return true;
-                    }
-                }
-                return false;
+                return packageMatchers.apply(input.getPackageName());
             }
         }
 
@@ -1321,6 +1371,58 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         }
     }
 
+    private static class SuperTypes {
+        private final List<JavaClass> classHierarchy;
+        private final List<JavaClass> allSuperClasses;
+        private final Set<JavaClass> allInterfaces;
+        private final Set<JavaClass> allClassesSelfIsAssignableTo;
+        private final Set<String> namesOfClassesSelfIsAssignableTo;
+
+        SuperTypes(JavaClass javaClass) {
+            ImmutableList.Builder<JavaClass> superClasses = ImmutableList.builder();
+            ImmutableSet.Builder<JavaClass> interfaces = ImmutableSet.builder();
+            for (JavaClass i : javaClass.interfaces) {
+                interfaces.add(i);
+                interfaces.addAll(i.getAllInterfaces());
+            }
+            if (javaClass.superClass.isPresent()) {
+                JavaClass superClass = javaClass.superClass.get();
+                superClasses.add(superClass).addAll(superClass.getAllSuperClasses());
+                interfaces.addAll(superClass.getAllInterfaces());
+            }
+            allSuperClasses = superClasses.build();
+            allInterfaces = interfaces.build();
+            classHierarchy = ImmutableList.<JavaClass>builder().add(javaClass).addAll(allSuperClasses).build();
+            allClassesSelfIsAssignableTo = ImmutableSet.<JavaClass>builder()
+                    .addAll(classHierarchy).addAll(allInterfaces).build();
+            namesOfClassesSelfIsAssignableTo = typeNamesOf(allClassesSelfIsAssignableTo);
+        }
+    }
+
+    private static class SubTypes {
+        private final Set<JavaClass> allSubClasses;
+        private final Set<String> namesOfClassesAssignableToSelf;
+
+        SubTypes(JavaClass javaClass) {
+            ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+            for (JavaClass subClass : javaClass.subClasses) {
+                result.add(subClass);
+                result.addAll(subClass.getAllSubClasses());
+            }
+            allSubClasses = result.build();
+            namesOfClassesAssignableToSelf = ImmutableSet.<String>builder()
+                    .add(javaClass.getName()).addAll(typeNamesOf(allSubClasses)).build();
+        }
+    }
+
+    private static Set<String> typeNamesOf(Iterable<JavaClass> classes) {
+        ImmutableSet.Builder<String> result = ImmutableSet.builder();
+        for (JavaClass javaClass : classes) {
+            result.add(javaClass.getName());
+        }
+        return result.build();
+    }
+
     @ResolvesTypesViaReflection
     @MayResolveTypesViaReflection(reason = "Just part of a bigger resolution process")
     private class ReflectClassSupplier implements Supplier<Class<?>> {
@@ -49,9 +49,20 @@ public class Source {
     private final Md5sum md5sum;
 
     Source(URI uri, Optional<String> fileName) {
+        this(uri, fileName, Md5sum.of(uri));
+    }
+
+    /**
+     * Avoids reading the class file from the URI again, if the bytes have already been read during the import
+     */
+    Source(URI uri, Optional<String> fileName, byte[] bytes) {
+        this(uri, fileName, Md5sum.of(bytes));
+    }
+
+    private Source(URI uri, Optional<String> fileName, Md5sum md5sum) {
         this.uri = checkNotNull(uri);
         this.fileName = checkNotNull(fileName);
-        md5sum = Md5sum.of(uri);
+        this.md5sum = md5sum;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -106,8 +117,6 @@ public class Source {
          */
         static final Md5sum DISABLED = new Md5sum("DISABLED");
 
-        private static final MessageDigest MD5_DIGEST = getMd5Digest();
-
         private final byte[] md5Bytes;
         private final String text;
 
@@ -167,12 +176,15 @@ public class Source {
             }
         }
 
+        // NOTE: MessageDigest is stateful and not thread safe, thus we need a new instance for each digest,
+        //       since classes might be imported in parallel
         static Md5sum of(byte[] input) {
-            if (MD5_DIGEST == null) {
+            MessageDigest md5Digest = getMd5Digest();
+            if (md5Digest == null) {
                 return NOT_SUPPORTED;
             }
 
-            return ArchConfiguration.get().md5InClassSourcesEnabled() ? new Md5sum(input, MD5_DIGEST) : DISABLED;
+            return ArchConfiguration.get().md5InClassSourcesEnabled() ? new Md5sum(input, md5Digest) : DISABLED;
         }
 
         private static Md5sum of(URI uri) {
@@ -17,7 +17,9 @@ package com.tngtech.archunit.core.importer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Supplier;
@@ -61,34 +63,42 @@ interface AccessRecord<TARGET extends AccessTarget> {
         AccessType getAccessType();
     }
 
+    /**
+     * Each factory interns the access targets it creates, i.e. all records of a factory that access the same
+     * target (same owner, name and descriptor) share a single target, which is only built and resolved once.
+     * Thus a factory should be used for all records of one import.
+     */
     @Internal
     abstract class Factory<RAW_RECORD, PROCESSED_RECORD> {
 
         abstract PROCESSED_RECORD create(RAW_RECORD record, ImportedClasses classes);
 
         static Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> forConstructorCallRecord() {
+            final Map<TargetInfo, ConstructorCallTarget> internedTargets = new HashMap<>();
             return new Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>>() {
                 @Override
                 AccessRecord<ConstructorCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawConstructorCallRecordProcessed(record, classes);
+                    return new RawConstructorCallRecordProcessed(record, classes, internedTargets);
                 }
             };
         }
 
         static Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> forMethodCallRecord() {
+            final Map<TargetInfo, MethodCallTarget> internedTargets = new HashMap<>();
             return new Factory<RawAccessRecord, AccessRecord<MethodCallTarget>>() {
                 @Override
                 AccessRecord<MethodCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawMethodCallRecordProcessed(record, classes);
+                    return new RawMethodCallRecordProcessed(record, classes, internedTargets);
                 }
             };
         }
 
         static Factory<RawAccessRecord.ForField, FieldAccessRecord> forFieldAccessRecord() {
+            final Map<TargetInfo, FieldAccessTarget> internedTargets = new HashMap<>();
             return new Factory<RawAccessRecord.ForField, FieldAccessRecord>() {
                 @Override
                 FieldAccessRecord create(RawAccessRecord.ForField record, ImportedClasses classes) {
-                    return new RawFieldAccessRecordProcessed(record, classes);
+                    return new RawFieldAccessRecordProcessed(record, classes, internedTargets);
                 }
             };
         }
@@ -96,12 +106,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawConstructorCallRecordProcessed implements AccessRecord<ConstructorCallTarget> {
             private final RawAccessRecord record;
             private final ImportedClasses classes;
+            private final Map<TargetInfo, ConstructorCallTarget> internedTargets;
             private final JavaClass targetOwner;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes,
+                    Map<TargetInfo, ConstructorCallTarget> internedTargets) {
                 this.record = record;
                 this.classes = classes;
+                this.internedTargets = internedTargets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getName());
                 callerSupplier = createCallerSupplier(record, classes);
             }
@@ -113,6 +126,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public ConstructorCallTarget getTarget() {
+                ConstructorCallTarget target = internedTargets.get(record.target);
+                if (target == null) {
+                    target = createTarget();
+                    internedTargets.put(record.target, target);
+                }
+                return target;
+            }
+
+            private ConstructorCallTarget createTarget() {
                 Supplier<Optional<JavaConstructor>> constructorSupplier = new Supplier<Optional<JavaConstructor>>() {
                     @Override
                     public Optional<JavaConstructor> get() {
@@ -138,12 +160,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawMethodCallRecordProcessed implements AccessRecord<MethodCallTarget> {
             private final RawAccessRecord record;
             final ImportedClasses classes;
+            private final Map<TargetInfo, MethodCallTarget> internedTargets;
             private final JavaClass targetOwner;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes,
+                    Map<TargetInfo, MethodCallTarget> internedTargets) {
                 this.record = record;
                 this.classes = classes;
+                this.internedTargets = internedTargets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getName());
                 callerSupplier = createCallerSupplier(record, classes);
             }
@@ -155,6 +180,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public MethodCallTarget getTarget() {
+                MethodCallTarget target = internedTargets.get(record.target);
+                if (target == null) {
+                    target = createTarget();
+                    internedTargets.put(record.target, target);
+                }
+                return target;
+            }
+
+            private MethodCallTarget createTarget() {
                 Supplier<Set<JavaMethod>> methodsSupplier = new Supplier<Set<JavaMethod>>() {
                     @Override
                     public Set<JavaMethod> get() {
@@ -181,12 +215,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawFieldAccessRecordProcessed implements FieldAccessRecord {
             private final RawAccessRecord.ForField record;
             final ImportedClasses classes;
+            private final Map<TargetInfo, FieldAccessTarget> internedTargets;
             private final JavaClass targetOwner;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes) {
+            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes,
+                    Map<TargetInfo, FieldAccessTarget> internedTargets) {
                 this.record = record;
                 this.classes = classes;
+                this.internedTargets = internedTargets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getName());
                 callerSupplier = createCallerSupplier(record, classes);
             }
@@ -203,6 +240,15 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public FieldAccessTarget getTarget() {
+                FieldAccessTarget target = internedTargets.get(record.target);
+                if (target == null) {
+                    target = createTarget();
+                    internedTargets.put(record.target, target);
+                }
+                return target;
+            }
+
+            private FieldAccessTarget createTarget() {
                 Supplier<Optional<JavaField>> fieldSupplier = new Supplier<Optional<JavaField>>() {
                     @Override
                     public Optional<JavaField> get() {
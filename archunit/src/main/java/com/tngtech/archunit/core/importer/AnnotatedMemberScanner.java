@@ -0,0 +1,263 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static org.objectweb.asm.ClassReader.SKIP_CODE;
+import static org.objectweb.asm.ClassReader.SKIP_DEBUG;
+import static org.objectweb.asm.ClassReader.SKIP_FRAMES;
+
+/**
+ * Finds the names of all classes declaring or inheriting fields or methods annotated with a certain annotation.
+ * In contrast to the {@link ClassFileImporter}, only the class headers and member declarations are read,
+ * all code is skipped and no {@link JavaClasses} are created. Thus the costs are proportional to the number of
+ * class files, which makes this suitable to discover candidates (e.g. test classes) before any real import.
+ * <br><br>
+ * Supertypes, that are not contained within the scanned locations, are read from the classpath on demand.
+ */
+@Internal
+public final class AnnotatedMemberScanner {
+    private static final Logger LOG = LoggerFactory.getLogger(AnnotatedMemberScanner.class);
+
+    private static final String JAVA_LANG_OBJECT = Type.getInternalName(Object.class);
+    private static final int PARSING_OPTIONS = SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES;
+
+    private final String annotationDescriptor;
+
+    public AnnotatedMemberScanner(Class<? extends Annotation> annotationType) {
+        this.annotationDescriptor = Type.getDescriptor(checkNotNull(annotationType));
+    }
+
+    /**
+     * @param locations The locations to scan
+     * @return The fully qualified names of all classes within the locations, that declare or inherit
+     * a field or method annotated with the respective annotation
+     */
+    public Set<String> findClassNamesIn(Collection<Location> locations) {
+        Headers headers = new Headers();
+        for (Location location : locations) {
+            scan(location, headers);
+        }
+
+        ImmutableSet.Builder<String> result = ImmutableSet.builder();
+        for (ClassHeader header : headers.scanned.values()) {
+            if (headers.declaresOrInheritsAnnotatedMember(header)) {
+                result.add(Type.getObjectType(header.internalName).getClassName());
+            }
+        }
+        return result.build();
+    }
+
+    private void scan(Location location, Headers headers) {
+        ClassFileSource source;
+        try {
+            source = location.asClassFileSource(new ImportOptions());
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't derive %s from %s", ClassFileSource.class.getSimpleName(), location), e);
+            return;
+        }
+        for (ClassFileLocation classFile : source) {
+            Optional<ClassHeader> header = tryRead(classFile);
+            if (header.isPresent()) {
+                headers.scanned.put(header.get().internalName, header.get());
+            }
+        }
+    }
+
+    private Optional<ClassHeader> tryRead(ClassFileLocation classFile) {
+        try {
+            return Optional.of(read(classFile.readBytes()));
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't scan class file %s", classFile.getUri()), e);
+            return Optional.absent();
+        }
+    }
+
+    private ClassHeader read(byte[] bytes) {
+        HeaderVisitor visitor = new HeaderVisitor();
+        new ClassReader(bytes).accept(visitor, PARSING_OPTIONS);
+        return visitor.header;
+    }
+
+    private class Headers {
+        private final Map<String, ClassHeader> scanned = new HashMap<>();
+        private final Map<String, Optional<ClassHeader>> fromClasspath = new HashMap<>();
+        private final Map<String, Boolean> results = new HashMap<>();
+        private final Set<String> inProgress = new HashSet<>();
+
+        boolean declaresOrInheritsAnnotatedMember(ClassHeader header) {
+            return Boolean.TRUE.equals(tryDetermine(header));
+        }
+
+        // NOTE: Returns null, if the result depends on a class, whose result is still being determined further up
+        //       the call stack. This is only possible for cyclic (i.e. broken) type hierarchies. Such partial results
+        //       are not memoized, since they might be different, once the respective class has been completed.
+        private Boolean tryDetermine(ClassHeader header) {
+            Boolean memoized = results.get(header.internalName);
+            if (memoized != null) {
+                return memoized;
+            }
+            if (header.declaresAnnotatedMember) {
+                results.put(header.internalName, true);
+                return true;
+            }
+            if (!inProgress.add(header.internalName)) {
+                return null;
+            }
+            try {
+                return tryDetermineFromSupertypes(header);
+            } finally {
+                inProgress.remove(header.internalName);
+            }
+        }
+
+        private Boolean tryDetermineFromSupertypes(ClassHeader header) {
+            boolean complete = true;
+            for (String supertype : header.supertypes) {
+                Optional<ClassHeader> supertypeHeader = get(supertype);
+                if (!supertypeHeader.isPresent()) {
+                    continue;
+                }
+                Boolean supertypeResult = tryDetermine(supertypeHeader.get());
+                if (supertypeResult == null) {
+                    complete = false;
+                } else if (supertypeResult) {
+                    results.put(header.internalName, true);
+                    return true;
+                }
+            }
+            if (!complete) {
+                return null;
+            }
+            results.put(header.internalName, false);
+            return false;
+        }
+
+        private Optional<ClassHeader> get(String internalName) {
+            if (scanned.containsKey(internalName)) {
+                return Optional.of(scanned.get(internalName));
+            }
+            if (!fromClasspath.containsKey(internalName)) {
+                fromClasspath.put(internalName, tryReadFromClasspath(internalName));
+            }
+            return fromClasspath.get(internalName);
+        }
+
+        private Optional<ClassHeader> tryReadFromClasspath(String internalName) {
+            URL resource = getClass().getResource("/" + internalName + ".class");
+            if (resource == null) {
+                return Optional.absent();
+            }
+            try (InputStream in = resource.openStream()) {
+                HeaderVisitor visitor = new HeaderVisitor();
+                new ClassReader(in).accept(visitor, PARSING_OPTIONS);
+                return Optional.of(visitor.header);
+            } catch (IOException | RuntimeException e) {
+                LOG.debug(String.format("Couldn't scan supertype %s from the classpath", internalName), e);
+                return Optional.absent();
+            }
+        }
+    }
+
+    private static class ClassHeader {
+        private final String internalName;
+        private final Set<String> supertypes;
+        private boolean declaresAnnotatedMember;
+
+        private ClassHeader(String internalName, Set<String> supertypes) {
+            this.internalName = internalName;
+            this.supertypes = supertypes;
+        }
+    }
+
+    private class HeaderVisitor extends ClassVisitor {
+        private ClassHeader header;
+
+        HeaderVisitor() {
+            super(ASM_API_VERSION);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            ImmutableSet.Builder<String> supertypes = ImmutableSet.builder();
+            if (superName != null && !superName.equals(JAVA_LANG_OBJECT)) {
+                supertypes.add(superName);
+            }
+            if (interfaces != null) {
+                supertypes.add(interfaces);
+            }
+            header = new ClassHeader(name, supertypes.build());
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            if (header.declaresAnnotatedMember) {
+                return null;
+            }
+            return new FieldVisitor(ASM_API_VERSION) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                    recordAnnotation(descriptor);
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            if (header.declaresAnnotatedMember) {
+                return null;
+            }
+            return new MethodVisitor(ASM_API_VERSION) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                    recordAnnotation(descriptor);
+                    return null;
+                }
+            };
+        }
+
+        private void recordAnnotation(String descriptor) {
+            if (annotationDescriptor.equals(descriptor)) {
+                header.declaresAnnotatedMember = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Supplies the events of class files to a {@link ClassVisitor}. If a cache directory is configured via
+ * {@link ArchConfiguration#getImportCacheDirectory()}, the {@link ClassFileRecording ClassFileRecordings} of class files
+ * within archives are persisted, keyed by the archive path together with its last modification time and size.
+ * Thus class files of unchanged archives don't need to be parsed by ASM again on the next import, even in another JVM.
+ */
+abstract class ClassFileImportCache {
+    static ClassFileImportCache create() {
+        Optional<String> directory = ArchConfiguration.get().getImportCacheDirectory();
+        return directory.isPresent() ? new Persistent(Paths.get(directory.get())) : new None();
+    }
+
+    abstract void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException;
+
+    /**
+     * Writes all recordings that have been added during the import to disk. Failures are only logged,
+     * since the cache must never break the import itself.
+     */
+    abstract void flush();
+
+    static InMemory inMemory() {
+        return new InMemory(create(), new ConcurrentHashMap<URI, byte[]>());
+    }
+
+    static void parse(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+        new ClassReader(location.readBytes()).accept(visitor, 0);
+    }
+
+    // NOTE: Other JVMs might read the cache file concurrently, so we try to never expose a partially written file
+    static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private static class None extends ClassFileImportCache {
+        @Override
+        void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+            parse(location, visitor);
+        }
+
+        @Override
+        void flush() {
+        }
+    }
+
+    /**
+     * Keeps the recordings of all class files in memory, so a subsequent import of the same class files
+     * doesn't need to read or parse those again. Misses are passed on to the configured cache.
+     */
+    static class InMemory extends ClassFileImportCache {
+        private final ClassFileImportCache delegate;
+        private final ConcurrentMap<URI, byte[]> recordingsByUri;
+
+        private InMemory(ClassFileImportCache delegate, ConcurrentMap<URI, byte[]> recordingsByUri) {
+            this.delegate = delegate;
+            this.recordingsByUri = recordingsByUri;
+        }
+
+        @Override
+        void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+            byte[] recording = recordingsByUri.get(location.getUri());
+            if (recording != null) {
+                ClassFileRecording.replay(recording, visitor);
+                return;
+            }
+
+            ClassFileRecording.Recorder recorder = new ClassFileRecording.Recorder(visitor);
+            delegate.accept(location, recorder);
+            recordingsByUri.put(location.getUri(), recorder.getRecording());
+        }
+
+        @Override
+        void flush() {
+            delegate.flush();
+        }
+
+        Optional<byte[]> getRecording(URI uri) {
+            return Optional.fromNullable(recordingsByUri.get(uri));
+        }
+
+        InMemory without(Set<URI> uris) {
+            ConcurrentMap<URI, byte[]> remaining = new ConcurrentHashMap<>(recordingsByUri);
+            remaining.keySet().removeAll(uris);
+            return new InMemory(create(), remaining);
+        }
+    }
+
+    private static class Persistent extends ClassFileImportCache {
+        private static final Logger LOG = LoggerFactory.getLogger(Persistent.class);
+
+        private final Path directory;
+        private final ConcurrentMap<File, ArchiveRecordings> recordingsByArchive = new ConcurrentHashMap<>();
+
+        Persistent(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+            Optional<ArchiveEntry> entry = ArchiveEntry.from(location.getUri());
+            if (!entry.isPresent()) {
+                parse(location, visitor);
+                return;
+            }
+
+            ArchiveRecordings recordings = recordingsOf(entry.get().archive);
+            Optional<byte[]> recording = recordings.get(entry.get().name);
+            if (recording.isPresent()) {
+                ClassFileRecording.replay(recording.get(), visitor);
+                return;
+            }
+
+            ClassFileRecording.Recorder recorder = new ClassFileRecording.Recorder(visitor);
+            parse(location, recorder);
+            recordings.put(entry.get().name, recorder.getRecording());
+        }
+
+        private ArchiveRecordings recordingsOf(File archive) {
+            ArchiveRecordings recordings = recordingsByArchive.get(archive);
+            if (recordings == null) {
+                ArchiveRecordings loaded = ArchiveRecordings.load(archive, cacheFileOf(archive));
+                recordings = recordingsByArchive.putIfAbsent(archive, loaded);
+                if (recordings == null) {
+                    recordings = loaded;
+                }
+            }
+            return recordings;
+        }
+
+        private Path cacheFileOf(File archive) {
+            String key = Hashing.sha1().hashString(archive.getAbsolutePath(), UTF_8).toString();
+            return directory.resolve(key + ".archunit-import");
+        }
+
+        @Override
+        void flush() {
+            for (ArchiveRecordings recordings : recordingsByArchive.values()) {
+                if (recordings.hasChanged()) {
+                    tryWrite(recordings);
+                }
+            }
+        }
+
+        private void tryWrite(ArchiveRecordings recordings) {
+            try {
+                recordings.write();
+            } catch (IOException | RuntimeException e) {
+                LOG.warn(String.format("Couldn't write import cache file %s", recordings.cacheFile), e);
+            }
+        }
+    }
+
+    private static class ArchiveEntry {
+        private static final String JAR_SEPARATOR = "!/";
+
+        private final File archive;
+        private final String name;
+
+        private ArchiveEntry(File archive, String name) {
+            this.archive = archive;
+            this.name = name;
+        }
+
+        // NOTE: Only class files within archives on the local file system are cached, since those are usually
+        //       third party libraries not changing between runs, while class files within directories
+        //       are usually the ones being recompiled
+        static Optional<ArchiveEntry> from(URI uri) {
+            if (!"jar".equals(uri.getScheme())) {
+                return Optional.absent();
+            }
+            String path = uri.getRawSchemeSpecificPart();
+            int separatorIndex = path.indexOf(JAR_SEPARATOR);
+            if (separatorIndex < 0) {
+                return Optional.absent();
+            }
+            String entryName = path.substring(separatorIndex + JAR_SEPARATOR.length());
+            URI archiveUri = URI.create(path.substring(0, separatorIndex));
+            if (!"file".equals(archiveUri.getScheme()) || entryName.contains(JAR_SEPARATOR)) {
+                return Optional.absent();
+            }
+            return Optional.of(new ArchiveEntry(new File(archiveUri), entryName));
+        }
+    }
+
+    private static class ArchiveRecordings {
+        private static final Logger LOG = LoggerFactory.getLogger(ArchiveRecordings.class);
+        private static final int FORMAT_VERSION = 1;
+
+        private final File archive;
+        private final long lastModified;
+        private final long length;
+        private final Path cacheFile;
+        private final ConcurrentMap<String, byte[]> recordings;
+        private volatile boolean changed = false;
+
+        private ArchiveRecordings(File archive, long lastModified, long length, Path cacheFile, Map<String, byte[]> recordings) {
+            this.archive = archive;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.cacheFile = cacheFile;
+            this.recordings = new ConcurrentHashMap<>(recordings);
+        }
+
+        Optional<byte[]> get(String entryName) {
+            return Optional.fromNullable(recordings.get(entryName));
+        }
+
+        void put(String entryName, byte[] recording) {
+            recordings.put(entryName, recording);
+            changed = true;
+        }
+
+        boolean hasChanged() {
+            return changed;
+        }
+
+        void write() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(archive.getAbsolutePath());
+                out.writeLong(lastModified);
+                out.writeLong(length);
+                Map<String, byte[]> snapshot = new HashMap<>(recordings);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, byte[]> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+            }
+            moveReplacing(tempFile, cacheFile);
+        }
+
+        static ArchiveRecordings load(File archive, Path cacheFile) {
+            long lastModified = archive.lastModified();
+            long length = archive.length();
+            return new ArchiveRecordings(archive, lastModified, length, cacheFile,
+                    tryRead(archive, lastModified, length, cacheFile));
+        }
+
+        private static Map<String, byte[]> tryRead(File archive, long lastModified, long length, Path cacheFile) {
+            if (!Files.exists(cacheFile)) {
+                return new HashMap<>();
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                if (in.readInt() != FORMAT_VERSION
+                        || !in.readUTF().equals(archive.getAbsolutePath())
+                        || in.readLong() != lastModified
+                        || in.readLong() != length) {
+                    LOG.debug("Discarding outdated import cache file {} for {}", cacheFile, archive);
+                    return new HashMap<>();
+                }
+                return readRecordings(in);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn(String.format("Couldn't read import cache file %s, ignoring it", cacheFile), e);
+                return new HashMap<>();
+            }
+        }
+
+        private static Map<String, byte[]> readRecordings(DataInputStream in) throws IOException {
+            Map<String, byte[]> result = new HashMap<>();
+            int numberOfRecordings = in.readInt();
+            for (int i = 0; i < numberOfRecordings; i++) {
+                String entryName = in.readUTF();
+                byte[] recording = new byte[in.readInt()];
+                in.readFully(recording);
+                result.put(entryName, recording);
+            }
+            return result;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.SetMultimap;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
+import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -153,6 +154,105 @@ class ClassFileImportRecord {
         return classes;
     }
 
+    /**
+     * Adds all classes of the other record, that have not been recorded yet, together with their members and
+     * accesses. Thus merging partial records in the order of their locations yields the same result as
+     * recording all locations in one sequential pass, where the first occurrence of a class name wins.
+     */
+    void mergeWith(ClassFileImportRecord other) {
+        Set<String> newClassNames = new HashSet<>();
+        for (JavaClass javaClass : other.classes.values()) {
+            if (!classes.containsKey(javaClass.getName())) {
+                classes.put(javaClass.getName(), javaClass);
+                newClassNames.add(javaClass.getName());
+            }
+        }
+        for (String ownerName : newClassNames) {
+            mergeDeclarationsOf(ownerName, other);
+        }
+        // NOTE: Like sequential registration, conflicting enclosing classes are skipped with a warning
+        for (Map.Entry<String, String> innerToOuter : other.enclosingClassNamesByOwner.innerToOuter.entrySet()) {
+            enclosingClassNamesByOwner.register(innerToOuter.getKey(), innerToOuter.getValue());
+        }
+        rawFieldAccessRecords.addAll(recordsFromCallersIn(newClassNames, other.rawFieldAccessRecords));
+        rawMethodCallRecords.addAll(recordsFromCallersIn(newClassNames, other.rawMethodCallRecords));
+        rawConstructorCallRecords.addAll(recordsFromCallersIn(newClassNames, other.rawConstructorCallRecords));
+    }
+
+    /**
+     * Adds the declarations of classes, that have been resolved into the other record, i.e. of classes that are
+     * not imported themselves, but are needed to complete the imported classes.
+     */
+    void mergeDeclarationsOf(Collection<String> resolvedClassNames, ClassFileImportRecord other) {
+        for (String ownerName : resolvedClassNames) {
+            mergeDeclarationsOf(ownerName, other);
+        }
+        for (Map.Entry<String, String> innerToOuter : other.enclosingClassNamesByOwner.innerToOuter.entrySet()) {
+            enclosingClassNamesByOwner.register(innerToOuter.getKey(), innerToOuter.getValue());
+        }
+    }
+
+    private void mergeDeclarationsOf(String ownerName, ClassFileImportRecord other) {
+        Optional<String> superClassName = other.getSuperClassFor(ownerName);
+        if (superClassName.isPresent()) {
+            setSuperClass(ownerName, superClassName.get());
+        }
+        addInterfaces(ownerName, other.getInterfaceNamesFor(ownerName));
+        fieldBuildersByOwner.putAll(ownerName, other.getFieldBuildersFor(ownerName));
+        methodBuildersByOwner.putAll(ownerName, other.getMethodBuildersFor(ownerName));
+        constructorBuildersByOwner.putAll(ownerName, other.getConstructorBuildersFor(ownerName));
+        Optional<DomainBuilders.JavaStaticInitializerBuilder> staticInitializer = other.getStaticInitializerBuilderFor(ownerName);
+        if (staticInitializer.isPresent()) {
+            setStaticInitializer(ownerName, staticInitializer.get());
+        }
+        addAnnotations(ownerName, other.getAnnotationsFor(ownerName));
+    }
+
+    private static <T extends RawAccessRecord> Set<T> recordsFromCallersIn(Set<String> classNames, Set<T> records) {
+        Set<T> result = new HashSet<>();
+        for (T record : records) {
+            if (classNames.contains(record.caller.getDeclaringClassName())) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The names of all types the given class directly refers to by its declaration, i.e. its super class,
+     *         interfaces, field types, parameter and return types. Primitive types are omitted, array types are
+     *         represented by their component types.
+     */
+    Set<String> getTypeNamesReferencedBy(String ownerName) {
+        Set<String> result = new HashSet<>();
+        result.addAll(getSuperClassFor(ownerName).asSet());
+        result.addAll(getInterfaceNamesFor(ownerName));
+        for (DomainBuilders.JavaFieldBuilder fieldBuilder : getFieldBuildersFor(ownerName)) {
+            addObjectTypeName(result, Type.getType(fieldBuilder.getDescriptor()));
+        }
+        for (DomainBuilders.JavaMethodBuilder methodBuilder : getMethodBuildersFor(ownerName)) {
+            addObjectTypeNames(result, Type.getMethodType(methodBuilder.getDescriptor()));
+        }
+        for (DomainBuilders.JavaConstructorBuilder constructorBuilder : getConstructorBuildersFor(ownerName)) {
+            addObjectTypeNames(result, Type.getMethodType(constructorBuilder.getDescriptor()));
+        }
+        return result;
+    }
+
+    private static void addObjectTypeNames(Set<String> result, Type methodType) {
+        addObjectTypeName(result, methodType.getReturnType());
+        for (Type parameterType : methodType.getArgumentTypes()) {
+            addObjectTypeName(result, parameterType);
+        }
+    }
+
+    private static void addObjectTypeName(Set<String> result, Type type) {
+        Type componentType = type.getSort() == Type.ARRAY ? type.getElementType() : type;
+        if (componentType.getSort() == Type.OBJECT) {
+            result.add(componentType.getClassName());
+        }
+    }
+
     Set<RawAccessRecord> getAccessRecords() {
         return ImmutableSet.<RawAccessRecord>builder()
                 .addAll(rawFieldAccessRecords)
@@ -32,6 +32,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
@@ -68,12 +69,26 @@ import static java.util.Collections.singletonList;
  * this would mean, if class A accesses B, but B is missing
  * from the set of imported classes, the importer will try to locate the class on the classpath
  * and then import that class, thus acquiring more information like superclasses and interfaces.
- * However, it will not transitively go on to resolve access targets of these classes.
+ * By default, it will not transitively go on to resolve the types referenced by these classes.
+ * <br><br>
+ * Missing classes can also be resolved transitively up to a certain depth, e.g. by setting
+ * <pre><code>{@value ArchConfiguration#MAX_TRANSITIVE_RESOLUTION_DEPTH}=3</code></pre>
+ * In this case the importer first resolves all classes referenced by the imported classes via the configured
+ * {@link ClassResolver}, i.e. super classes, interfaces, field types, parameter and return types
+ * and targets of accesses. Then it resolves all classes referenced by those classes and so on, until the depth or
+ * the maximum number of resolved classes configured by
+ * <pre><code>{@value ArchConfiguration#MAX_NUMBER_OF_TRANSITIVELY_RESOLVED_CLASSES}</code></pre>
+ * is reached.
  * <br><br>
  * The {@link ClassResolverFromClasspath} can easily be activated by setting
  * <pre><code>{@value ArchConfiguration#RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH}=true</code></pre>
  * within your {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
  * For further information consult the ArchUnit user guide.
+ * <br><br>
+ * For large imports, class files can be parsed in parallel by setting
+ * <pre><code>{@value ArchConfiguration#ENABLE_PARALLEL_IMPORT}=true</code></pre>
+ * or for a single importer via {@link #withParallelImport(boolean)}. The imported classes are the same
+ * as for a sequential import.
  *
  * @see ArchConfiguration
  */
@@ -81,6 +96,7 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final Optional<Boolean> parallelImport;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -89,12 +105,27 @@ public final class ClassFileImporter {
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, Optional.<Boolean>absent());
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, Optional<Boolean> parallelImport) {
         this.importOptions = importOptions;
+        this.parallelImport = parallelImport;
     }
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), parallelImport);
+    }
+
+    /**
+     * @param enabled Whether class files should be parsed in parallel, overriding
+     *                {@value ArchConfiguration#ENABLE_PARALLEL_IMPORT} for this importer
+     * @return A new importer with the respective configuration
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withParallelImport(boolean enabled) {
+        return new ClassFileImporter(importOptions, Optional.of(enabled));
     }
 
     /**
@@ -252,7 +283,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasspath(ImportOptions options) {
-        return new ClassFileImporter(options).importLocations(Locations.inClassPath());
+        return new ClassFileImporter(options, parallelImport).importLocations(Locations.inClassPath());
     }
 
     /**
@@ -310,11 +341,74 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        return createClassFileProcessor().process(unify(sourcesOf(locations)));
+    }
+
+    /**
+     * Imports the given locations like {@link #importLocations(Collection)}, but keeps the relevant information of all
+     * imported class files in memory. Thus a subsequent {@link IncrementalImport#update(Collection)} only needs to read
+     * those class files again, that have been changed, added or deleted in the meantime.
+     */
+    @PublicAPI(usage = ACCESS)
+    public IncrementalImport importLocationsIncrementally(Collection<Location> locations) {
+        return IncrementalImport.start(this, locations);
+    }
+
+    /**
+     * Imports the given locations like {@link #importLocations(Collection)}, but shares the import with other JVMs
+     * via a snapshot file within the given directory, e.g. between the forked test JVMs of a build.
+     * If the directory contains a valid snapshot for these locations and the configured {@link ImportOption}s,
+     * the locations are not scanned and no class file is read or parsed, instead the relevant information of all
+     * class files is replayed from the memory mapped snapshot. Otherwise the locations are imported as usual,
+     * and the snapshot is written for any subsequent import.
+     * <br><br>
+     * A snapshot becomes invalid, as soon as any class file or archive it has been recorded from is modified or deleted,
+     * or any directory within an imported directory is modified (e.g. because a class file has been added).
+     * Nevertheless the snapshot directory should be cleaned together with the compiled classes
+     * (e.g. by placing it within the build directory), since modification times might be too coarse to reveal
+     * every change.
+     * <br><br>
+     * Since the snapshot identifies the configured {@link ImportOption}s only by their type, snapshots are only used,
+     * if every option is stateless, i.e. an enum constant or an instance of a class without any instance fields.
+     * Otherwise the locations are imported as usual via {@link #importLocations(Collection)}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses importLocationsUsingSnapshot(Collection<Location> locations, Path snapshotDirectory) {
+        Optional<String> key = ImportSnapshot.keyOf(locations, importOptions);
+        if (!key.isPresent()) {
+            return importLocations(locations);
+        }
+        Path snapshotFile = snapshotDirectory.resolve(ImportSnapshot.fileNameOf(key.get()));
+        Optional<ImportSnapshot> snapshot = ImportSnapshot.tryLoad(snapshotFile, key.get());
+        if (snapshot.isPresent()) {
+            return process(snapshot.get().getClassFileLocations(), snapshot.get().asImportCache());
+        }
+
+        List<ClassFileLocation> classFileLocations = classFileLocationsOf(locations);
+        ClassFileImportCache.InMemory importCache = ClassFileImportCache.inMemory();
+        JavaClasses classes = process(classFileLocations, importCache);
+        ImportSnapshot.tryWrite(snapshotFile, key.get(), locations, classFileLocations, importCache);
+        return classes;
+    }
+
+    List<ClassFileLocation> classFileLocationsOf(Collection<Location> locations) {
+        return ImmutableList.copyOf(Iterables.concat(sourcesOf(locations)));
+    }
+
+    JavaClasses process(List<ClassFileLocation> classFileLocations, ClassFileImportCache importCache) {
+        return createClassFileProcessor().process(unify(singletonList(classFileLocations)), importCache);
+    }
+
+    private List<ClassFileSource> sourcesOf(Collection<Location> locations) {
         List<ClassFileSource> sources = new ArrayList<>();
         for (Location location : locations) {
             tryAdd(sources, location);
         }
-        return new ClassFileProcessor().process(unify(sources));
+        return sources;
+    }
+
+    private ClassFileProcessor createClassFileProcessor() {
+        return parallelImport.isPresent() ? new ClassFileProcessor(parallelImport.get()) : new ClassFileProcessor();
     }
 
     private void tryAdd(List<ClassFileSource> sources, Location location) {
@@ -326,7 +420,7 @@ public final class ClassFileImporter {
         }
     }
 
-    private ClassFileSource unify(final List<ClassFileSource> sources) {
+    private ClassFileSource unify(final List<? extends Iterable<ClassFileLocation>> sources) {
         final Iterable<ClassFileLocation> concatenatedStreams = Iterables.concat(sources);
         return new ClassFileSource() {
             @Override
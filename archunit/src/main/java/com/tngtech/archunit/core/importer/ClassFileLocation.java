@@ -15,11 +15,18 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 
 interface ClassFileLocation {
     InputStream openStream();
 
+    /**
+     * @return The complete content of the class file. Implementations should avoid intermediate
+     * buffers where they know the size of the class file up front.
+     */
+    byte[] readBytes() throws IOException;
+
     URI getUri();
 }
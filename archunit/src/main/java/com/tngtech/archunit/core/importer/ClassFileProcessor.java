@@ -15,18 +15,42 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.importer.ClassFileSource.InMemoryClassFileLocation;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.DeclarationHandler;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
-import com.tngtech.archunit.core.importer.RawAccessRecord.MethodTargetInfo;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
@@ -35,6 +59,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
+import static java.util.Collections.singletonList;
 import static org.objectweb.asm.Opcodes.ASM7;
 
 class ClassFileProcessor {
@@ -42,23 +67,236 @@ class ClassFileProcessor {
 
     static final int ASM_API_VERSION = ASM7;
 
+    // Several batches per thread, so threads that finish early can pick up remaining work
+    private static final int BATCHES_PER_THREAD = 4;
+
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final boolean parallel;
+
+    ClassFileProcessor() {
+        this(ArchConfiguration.get().parallelImportEnabled());
+    }
+
+    ClassFileProcessor(boolean parallel) {
+        this.parallel = parallel;
+    }
 
     JavaClasses process(ClassFileSource source) {
+        return process(source, ClassFileImportCache.create());
+    }
+
+    JavaClasses process(ClassFileSource source, ClassFileImportCache importCache) {
+        return complete(record(source, importCache));
+    }
+
+    /**
+     * First step of {@link #process(ClassFileSource, ClassFileImportCache)}, i.e. parses all class files
+     * of the source into a record, which can then be completed to a graph of {@link JavaClasses}.
+     */
+    ClassFileImportRecord record(ClassFileSource source, ClassFileImportCache importCache) {
+        boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+        ImportSymbols symbols = new ImportSymbols();
+        ClassFileImportRecord importRecord = parallel
+                ? recordInParallel(source, importCache, symbols, md5InClassSourcesEnabled)
+                : record(source, importCache, symbols, md5InClassSourcesEnabled);
+        importCache.flush();
+        LOG.debug("Recorded accesses to {} distinct targets", symbols.numberOfDistinctTargets());
+        return importRecord;
+    }
+
+    /**
+     * Second step of {@link #process(ClassFileSource, ClassFileImportCache)}, i.e. creates the graph of
+     * {@link JavaClasses} from the record of all imported class files.
+     */
+    JavaClasses complete(ClassFileImportRecord importRecord) {
+        boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+        Map<String, JavaClass> resolvedTransitively = resolveTransitively(importRecord, md5InClassSourcesEnabled);
+        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
+        try (UriImporterOfProcessor uriImporter = new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled)) {
+            return new ClassGraphCreator(importRecord, resolvedTransitively, getClassResolver(uriImporter)).complete();
+        }
+    }
+
+    // NOTE: Missing classes are resolved level by level, i.e. first all classes referenced by the imported classes,
+    //       then all classes referenced by those resolved classes and so on, until the configured depth or number
+    //       of classes is reached. Each level is resolved as one batch, split among several threads for a parallel import.
+    private Map<String, JavaClass> resolveTransitively(ClassFileImportRecord importRecord, boolean md5InClassSourcesEnabled) {
+        int maxDepth = ArchConfiguration.get().getMaxTransitiveResolutionDepth();
+        int remainingClasses = ArchConfiguration.get().getMaxNumberOfTransitivelyResolvedClasses();
+        Map<String, JavaClass> result = new HashMap<>();
+        Set<String> attempted = new HashSet<>(importRecord.getClasses().keySet());
+        Set<String> referenced = getTypeNamesReferencedByImport(importRecord);
+        for (int depth = 1; depth <= maxDepth && remainingClasses > 0; depth++) {
+            List<String> candidates = Ordering.natural().sortedCopy(Sets.difference(referenced, attempted));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            // NOTE: Only classes that could actually be resolved count against the configured number of classes
+            Map<String, JavaClass> resolved = new HashMap<>();
+            int nextCandidate = 0;
+            while (remainingClasses > 0 && nextCandidate < candidates.size()) {
+                List<String> batch = candidates.subList(nextCandidate, Math.min(candidates.size(), nextCandidate + remainingClasses));
+                nextCandidate += batch.size();
+                attempted.addAll(batch);
+
+                Map<String, JavaClass> resolvedBatch = resolve(batch, importRecord, md5InClassSourcesEnabled);
+                remainingClasses -= resolvedBatch.size();
+                resolved.putAll(resolvedBatch);
+            }
+
+            result.putAll(resolved);
+            referenced = new HashSet<>();
+            for (String resolvedClassName : resolved.keySet()) {
+                referenced.addAll(importRecord.getTypeNamesReferencedBy(resolvedClassName));
+            }
+        }
+        if (maxDepth > 0) {
+            LOG.debug("Resolved {} classes transitively", result.size());
+        }
+        return result;
+    }
+
+    private Set<String> getTypeNamesReferencedByImport(ClassFileImportRecord importRecord) {
+        Set<String> result = new HashSet<>();
+        for (String className : importRecord.getClasses().keySet()) {
+            result.addAll(importRecord.getTypeNamesReferencedBy(className));
+        }
+        for (RawAccessRecord accessRecord : importRecord.getAccessRecords()) {
+            result.addAll(objectTypeNameOf(accessRecord.target.owner).asSet());
+        }
+        return result;
+    }
+
+    // NOTE: Accesses like values() or clone() target array types, which can't be resolved as classes themselves
+    private static Optional<String> objectTypeNameOf(JavaType type) {
+        JavaType elementType = type;
+        while (elementType.tryGetComponentType().isPresent()) {
+            elementType = elementType.tryGetComponentType().get();
+        }
+        return elementType.isPrimitive() ? Optional.<String>absent() : Optional.of(elementType.getName());
+    }
+
+    private Map<String, JavaClass> resolve(List<String> typeNames, ClassFileImportRecord importRecord, boolean md5InClassSourcesEnabled) {
+        List<PartialResolution> partialResolutions = parallel
+                ? resolveInParallel(typeNames, md5InClassSourcesEnabled)
+                : singletonList(resolveSequentially(typeNames, md5InClassSourcesEnabled));
+
+        Map<String, JavaClass> result = new HashMap<>();
+        for (PartialResolution partialResolution : partialResolutions) {
+            importRecord.mergeDeclarationsOf(partialResolution.resolvedClasses.keySet(), partialResolution.record);
+            result.putAll(partialResolution.resolvedClasses);
+        }
+        return result;
+    }
+
+    // NOTE: Every thread uses its own ClassResolver, recording into its own partial record,
+    //       thus the configured ClassResolver does not need to be thread-safe
+    private List<PartialResolution> resolveInParallel(List<String> typeNames, final boolean md5InClassSourcesEnabled) {
+        int numberOfThreads = Runtime.getRuntime().availableProcessors();
+        int batchSize = Math.max(1, (int) Math.ceil(typeNames.size() / (double) numberOfThreads));
+
+        ExecutorService executor = newImportExecutor(numberOfThreads);
+        try {
+            List<Future<PartialResolution>> futures = new ArrayList<>();
+            for (final List<String> batch : Lists.partition(typeNames, batchSize)) {
+                futures.add(executor.submit(new Callable<PartialResolution>() {
+                    @Override
+                    public PartialResolution call() {
+                        return resolveSequentially(batch, md5InClassSourcesEnabled);
+                    }
+                }));
+            }
+            List<PartialResolution> result = new ArrayList<>();
+            for (Future<PartialResolution> future : futures) {
+                result.add(Futures.getUnchecked(future));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PartialResolution resolveSequentially(List<String> typeNames, boolean md5InClassSourcesEnabled) {
+        PartialResolution result = new PartialResolution();
+        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(result.record);
+        try (UriImporterOfProcessor uriImporter = new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled)) {
+            ClassResolver classResolver = getClassResolver(uriImporter);
+            for (String typeName : typeNames) {
+                Optional<JavaClass> resolved = classResolver.tryResolve(typeName);
+                if (resolved.isPresent()) {
+                    result.resolvedClasses.put(typeName, resolved.get());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static class PartialResolution {
+        private final ClassFileImportRecord record = new ClassFileImportRecord();
+        private final Map<String, JavaClass> resolvedClasses = new HashMap<>();
+    }
+
+    // NOTE: If md5 sums are enabled, each class file is read into memory exactly once, and the same bytes
+    //       are used for parsing and for calculating the md5 sum of the Source
+    private ClassFileImportRecord record(Iterable<ClassFileLocation> locations, ClassFileImportCache importCache,
+            ImportSymbols symbols, boolean md5InClassSourcesEnabled) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord);
+        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, symbols);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
-        for (ClassFileLocation location : source) {
-            try (InputStream s = location.openStream()) {
+        for (ClassFileLocation location : locations) {
+            try {
+                Optional<byte[]> sourceBytes = Optional.absent();
+                if (md5InClassSourcesEnabled) {
+                    InMemoryClassFileLocation inMemoryLocation = InMemoryClassFileLocation.readFrom(location);
+                    sourceBytes = Optional.of(inMemoryLocation.readBytes());
+                    location = inMemoryLocation;
+                }
                 JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(location.getUri(), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
+                        new JavaClassProcessor(location.getUri(), sourceBytes, classDetailsRecorder, accessHandler);
+                importCache.accept(location, javaClassProcessor);
                 importRecord.addAll(javaClassProcessor.createJavaClass().asSet());
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, getClassResolver(classDetailsRecorder)).complete();
+        return importRecord;
+    }
+
+    // NOTE: Each batch of consecutive locations is recorded into its own partial record by a worker thread.
+    //       Merging these records in the original order of the batches keeps the semantics of the sequential
+    //       import, i.e. if a class name occurs at several locations, the first location wins.
+    private ClassFileImportRecord recordInParallel(ClassFileSource source, final ClassFileImportCache importCache,
+            final ImportSymbols symbols, final boolean md5InClassSourcesEnabled) {
+        List<ClassFileLocation> locations = ImmutableList.copyOf(source);
+        int numberOfThreads = Runtime.getRuntime().availableProcessors();
+        int batchSize = Math.max(1, (int) Math.ceil(locations.size() / (double) (numberOfThreads * BATCHES_PER_THREAD)));
+        LOG.debug("Importing {} class files in parallel with {} threads", locations.size(), numberOfThreads);
+
+        ExecutorService executor = newImportExecutor(numberOfThreads);
+        try {
+            List<Future<ClassFileImportRecord>> partialRecords = new ArrayList<>();
+            for (final List<ClassFileLocation> batch : Lists.partition(locations, batchSize)) {
+                partialRecords.add(executor.submit(new Callable<ClassFileImportRecord>() {
+                    @Override
+                    public ClassFileImportRecord call() {
+                        return record(batch, importCache, symbols, md5InClassSourcesEnabled);
+                    }
+                }));
+            }
+            ClassFileImportRecord result = new ClassFileImportRecord();
+            for (Future<ClassFileImportRecord> partialRecord : partialRecords) {
+                result.mergeWith(Futures.getUnchecked(partialRecord));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newImportExecutor(int numberOfThreads) {
+        return Executors.newFixedThreadPool(numberOfThreads,
+                new ThreadFactoryBuilder().setNameFormat("archunit-import-%d").setDaemon(true).build());
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -118,16 +356,18 @@ class ClassFileProcessor {
         private static final Logger LOG = LoggerFactory.getLogger(RecordAccessHandler.class);
 
         private final ClassFileImportRecord importRecord;
+        private final ImportSymbols symbols;
         private CodeUnit codeUnit;
         private int lineNumber;
 
-        private RecordAccessHandler(ClassFileImportRecord importRecord) {
+        private RecordAccessHandler(ClassFileImportRecord importRecord, ImportSymbols symbols) {
             this.importRecord = importRecord;
+            this.symbols = symbols;
         }
 
         @Override
         public void setContext(CodeUnit codeUnit) {
-            this.codeUnit = codeUnit;
+            this.codeUnit = symbols.intern(codeUnit);
         }
 
         @Override
@@ -139,7 +379,7 @@ class ClassFileProcessor {
         public void handleFieldInstruction(int opcode, String owner, String name, String desc) {
             AccessType accessType = AccessType.forOpCode(opcode);
             LOG.debug("Found {} access to field {}.{}:{} in line {}", accessType, owner, name, desc, lineNumber);
-            TargetInfo target = new RawAccessRecord.FieldTargetInfo(owner, name, desc);
+            TargetInfo target = symbols.fieldTarget(owner, name, desc);
             importRecord.registerFieldAccess(filled(new RawAccessRecord.ForField.Builder(), target)
                     .withAccessType(accessType)
                     .build());
@@ -149,10 +389,10 @@ class ClassFileProcessor {
         public void handleMethodInstruction(String owner, String name, String desc) {
             LOG.debug("Found call of method {}.{}:{} in line {}", owner, name, desc, lineNumber);
             if (CONSTRUCTOR_NAME.equals(name)) {
-                TargetInfo target = new RawAccessRecord.ConstructorTargetInfo(owner, name, desc);
+                TargetInfo target = symbols.constructorTarget(owner, name, desc);
                 importRecord.registerConstructorCall(filled(new RawAccessRecord.Builder(), target).build());
             } else {
-                TargetInfo target = new MethodTargetInfo(owner, name, desc);
+                TargetInfo target = symbols.methodTarget(owner, name, desc);
                 importRecord.registerMethodCall(filled(new RawAccessRecord.Builder(), target).build());
             }
         }
@@ -165,30 +405,77 @@ class ClassFileProcessor {
         }
     }
 
-    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
+    private ClassResolver getClassResolver(ClassUriImporter uriImporter) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder));
+        classResolver.setClassUriImporter(uriImporter);
         return classResolver;
     }
 
-    private static class UriImporterOfProcessor implements ClassUriImporter {
+    // NOTE: Missing classes are mostly resolved from a few Jar files, thus we keep every Jar file open until
+    //       the import is completed, instead of opening it again via a URL connection for every single class
+    private static class UriImporterOfProcessor implements ClassUriImporter, Closeable {
+        private static final String JAR_FILE_URI_PREFIX = "jar:file:";
+        private static final String JAR_ENTRY_SEPARATOR = "!/";
+
         private final DeclarationHandler declarationHandler;
+        private final boolean md5InClassSourcesEnabled;
+        private final Map<String, JarFile> openJarFiles = new HashMap<>();
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
             this.declarationHandler = declarationHandler;
+            this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(uri, declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+            try {
+                byte[] bytes = readBytes(uri);
+                Optional<byte[]> sourceBytes = md5InClassSourcesEnabled ? Optional.of(bytes) : Optional.<byte[]>absent();
+                JavaClassProcessor classProcessor = new JavaClassProcessor(uri, sourceBytes, declarationHandler);
+                new ClassReader(bytes).accept(classProcessor, 0);
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
                 return Optional.absent();
             }
         }
+
+        private byte[] readBytes(URI uri) throws IOException {
+            String[] parts = uri.toString().split(JAR_ENTRY_SEPARATOR);
+            if (parts.length == 2 && parts[0].startsWith(JAR_FILE_URI_PREFIX)) {
+                return readFromJarFile(parts[0].substring("jar:".length()), parts[1]);
+            }
+            try (InputStream inputStream = uri.toURL().openStream()) {
+                return ByteStreams.toByteArray(inputStream);
+            }
+        }
+
+        private byte[] readFromJarFile(String fileUri, String entryName) throws IOException {
+            JarFile jarFile = openJarFiles.get(fileUri);
+            if (jarFile == null) {
+                jarFile = new JarFile(new File(URI.create(fileUri)));
+                openJarFiles.put(fileUri, jarFile);
+            }
+            JarEntry entry = jarFile.getJarEntry(entryName);
+            if (entry == null) {
+                throw new FileNotFoundException(String.format("Entry %s does not exist in %s", entryName, jarFile.getName()));
+            }
+            try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                return ByteStreams.toByteArray(inputStream);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (JarFile jarFile : openJarFiles.values()) {
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    LOG.warn("Couldn't close Jar file " + jarFile.getName(), e);
+                }
+            }
+            openJarFiles.clear();
+        }
     }
 
 }
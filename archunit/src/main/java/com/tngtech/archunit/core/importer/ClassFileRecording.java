@@ -0,0 +1,698 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A compact binary recording of those ASM visitor events of a class file, that are relevant to {@link JavaClassProcessor}
+ * (e.g. declarations, annotations, line numbers and field/method instructions).<br>
+ * Replaying a recording drives a {@link ClassVisitor} the same way {@link ClassReader#accept(ClassVisitor, int)} would,
+ * as far as the import is concerned, without parsing the class file again. Any information not consumed by the import,
+ * like generic signatures, constant values or other instructions, is not recorded and replayed as <code>null</code>.
+ */
+class ClassFileRecording {
+    private static final byte VISIT = 1;
+    private static final byte SOURCE = 2;
+    private static final byte INNER_CLASS = 3;
+    private static final byte OUTER_CLASS = 4;
+    private static final byte ANNOTATION = 5;
+    private static final byte FIELD = 6;
+    private static final byte METHOD = 7;
+    private static final byte CODE = 8;
+    private static final byte LINE_NUMBER = 9;
+    private static final byte FIELD_INSTRUCTION = 10;
+    private static final byte METHOD_INSTRUCTION = 11;
+    private static final byte ANNOTATION_DEFAULT = 12;
+    private static final byte VALUE = 13;
+    private static final byte ENUM = 14;
+    private static final byte ARRAY = 15;
+    private static final byte END = 16;
+
+    private static final byte NULL = 0;
+    private static final byte BYTE_VALUE = 1;
+    private static final byte BOOLEAN_VALUE = 2;
+    private static final byte CHAR_VALUE = 3;
+    private static final byte SHORT_VALUE = 4;
+    private static final byte INT_VALUE = 5;
+    private static final byte LONG_VALUE = 6;
+    private static final byte FLOAT_VALUE = 7;
+    private static final byte DOUBLE_VALUE = 8;
+    private static final byte STRING_VALUE = 9;
+    private static final byte TYPE_VALUE = 10;
+    private static final byte BYTE_ARRAY_VALUE = 11;
+    private static final byte BOOLEAN_ARRAY_VALUE = 12;
+    private static final byte CHAR_ARRAY_VALUE = 13;
+    private static final byte SHORT_ARRAY_VALUE = 14;
+    private static final byte INT_ARRAY_VALUE = 15;
+    private static final byte LONG_ARRAY_VALUE = 16;
+    private static final byte FLOAT_ARRAY_VALUE = 17;
+    private static final byte DOUBLE_ARRAY_VALUE = 18;
+
+    private static final MethodVisitor IGNORING_METHOD_VISITOR = new MethodVisitor(ASM_API_VERSION) {
+    };
+    private static final AnnotationVisitor IGNORING_ANNOTATION_VISITOR = new AnnotationVisitor(ASM_API_VERSION) {
+    };
+
+    private ClassFileRecording() {
+    }
+
+    static void replay(byte[] recording, ClassVisitor visitor) {
+        Input in = new Input(recording);
+        byte tag;
+        while ((tag = in.readByte()) != END) {
+            replayClassEvent(tag, in, visitor);
+        }
+        visitor.visitEnd();
+    }
+
+    private static void replayClassEvent(byte tag, Input in, ClassVisitor visitor) {
+        switch (tag) {
+            case VISIT:
+                int version = in.readInt();
+                int access = in.readInt();
+                String name = in.readString();
+                String superName = in.readString();
+                visitor.visit(version, access, name, null, superName, in.readStrings());
+                return;
+            case SOURCE:
+                visitor.visitSource(in.readString(), null);
+                return;
+            case INNER_CLASS:
+                String innerClassName = in.readString();
+                String outerName = in.readString();
+                String innerName = in.readString();
+                visitor.visitInnerClass(innerClassName, outerName, innerName, in.readInt());
+                return;
+            case OUTER_CLASS:
+                String owner = in.readString();
+                String methodName = in.readString();
+                visitor.visitOuterClass(owner, methodName, in.readString());
+                return;
+            case ANNOTATION:
+                String annotationDescriptor = in.readString();
+                replayAnnotation(in, visitor.visitAnnotation(annotationDescriptor, in.readBoolean()));
+                return;
+            case FIELD:
+                int fieldAccess = in.readInt();
+                String fieldName = in.readString();
+                replayField(in, visitor.visitField(fieldAccess, fieldName, in.readString(), null, null));
+                return;
+            case METHOD:
+                int methodAccess = in.readInt();
+                String codeUnitName = in.readString();
+                replayMethod(in, visitor.visitMethod(methodAccess, codeUnitName, in.readString(), null, null));
+                return;
+            default:
+                throw unknown(tag);
+        }
+    }
+
+    // NOTE: Visitors may return null for nested elements they are not interested in, we still have to consume the events
+    private static void replayField(Input in, FieldVisitor visitor) {
+        byte tag;
+        while ((tag = in.readByte()) != END) {
+            if (tag != ANNOTATION) {
+                throw unknown(tag);
+            }
+            String descriptor = in.readString();
+            boolean visible = in.readBoolean();
+            replayAnnotation(in, visitor != null ? visitor.visitAnnotation(descriptor, visible) : null);
+        }
+        if (visitor != null) {
+            visitor.visitEnd();
+        }
+    }
+
+    private static void replayMethod(Input in, MethodVisitor visitor) {
+        byte tag;
+        while ((tag = in.readByte()) != END) {
+            replayMethodEvent(tag, in, visitor != null ? visitor : IGNORING_METHOD_VISITOR);
+        }
+        if (visitor != null) {
+            visitor.visitEnd();
+        }
+    }
+
+    private static void replayMethodEvent(byte tag, Input in, MethodVisitor visitor) {
+        switch (tag) {
+            case CODE:
+                visitor.visitCode();
+                return;
+            case LINE_NUMBER:
+                visitor.visitLineNumber(in.readInt(), new Label());
+                return;
+            case FIELD_INSTRUCTION:
+                int fieldOpcode = in.readInt();
+                String fieldOwner = in.readString();
+                String fieldName = in.readString();
+                visitor.visitFieldInsn(fieldOpcode, fieldOwner, fieldName, in.readString());
+                return;
+            case METHOD_INSTRUCTION:
+                int methodOpcode = in.readInt();
+                String methodOwner = in.readString();
+                String methodName = in.readString();
+                String methodDescriptor = in.readString();
+                visitor.visitMethodInsn(methodOpcode, methodOwner, methodName, methodDescriptor, in.readBoolean());
+                return;
+            case ANNOTATION:
+                String annotationDescriptor = in.readString();
+                replayAnnotation(in, visitor.visitAnnotation(annotationDescriptor, in.readBoolean()));
+                return;
+            case ANNOTATION_DEFAULT:
+                replayAnnotation(in, visitor.visitAnnotationDefault());
+                return;
+            default:
+                throw unknown(tag);
+        }
+    }
+
+    private static void replayAnnotation(Input in, AnnotationVisitor visitor) {
+        byte tag;
+        while ((tag = in.readByte()) != END) {
+            replayAnnotationEvent(tag, in, visitor != null ? visitor : IGNORING_ANNOTATION_VISITOR);
+        }
+        if (visitor != null) {
+            visitor.visitEnd();
+        }
+    }
+
+    private static void replayAnnotationEvent(byte tag, Input in, AnnotationVisitor visitor) {
+        String name = in.readString();
+        switch (tag) {
+            case VALUE:
+                visitor.visit(name, in.readValue());
+                return;
+            case ENUM:
+                String descriptor = in.readString();
+                visitor.visitEnum(name, descriptor, in.readString());
+                return;
+            case ANNOTATION:
+                replayAnnotation(in, visitor.visitAnnotation(name, in.readString()));
+                return;
+            case ARRAY:
+                replayAnnotation(in, visitor.visitArray(name));
+                return;
+            default:
+                throw unknown(tag);
+        }
+    }
+
+    private static IllegalStateException unknown(byte tag) {
+        return new IllegalStateException(String.format(
+                "Unknown event %d in class file recording, the recording is most likely corrupt", tag));
+    }
+
+    /**
+     * Records the relevant events, while passing all events on to the delegate. Events are recorded
+     * independently of the delegate being interested, since this might differ from import to import.
+     */
+    static class Recorder extends ClassVisitor {
+        private final Output out = new Output();
+
+        Recorder(ClassVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+        }
+
+        byte[] getRecording() {
+            return out.toByteArray();
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            out.writeByte(VISIT).writeInt(version).writeInt(access).writeString(name).writeString(superName).writeStrings(interfaces);
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public void visitSource(String source, String debug) {
+            out.writeByte(SOURCE).writeString(source);
+            super.visitSource(source, debug);
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            out.writeByte(INNER_CLASS).writeString(name).writeString(outerName).writeString(innerName).writeInt(access);
+            super.visitInnerClass(name, outerName, innerName, access);
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String name, String descriptor) {
+            out.writeByte(OUTER_CLASS).writeString(owner).writeString(name).writeString(descriptor);
+            super.visitOuterClass(owner, name, descriptor);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new AnnotationRecorder(out, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            out.writeByte(FIELD).writeInt(access).writeString(name).writeString(descriptor);
+            return new FieldRecorder(out, super.visitField(access, name, descriptor, signature, value));
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            out.writeByte(METHOD).writeInt(access).writeString(name).writeString(descriptor);
+            return new MethodRecorder(out, super.visitMethod(access, name, descriptor, signature, exceptions));
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class FieldRecorder extends FieldVisitor {
+        private final Output out;
+
+        FieldRecorder(Output out, FieldVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+            this.out = out;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new AnnotationRecorder(out, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class MethodRecorder extends MethodVisitor {
+        private final Output out;
+
+        MethodRecorder(Output out, MethodVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+            this.out = out;
+        }
+
+        @Override
+        public void visitCode() {
+            out.writeByte(CODE);
+            super.visitCode();
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            out.writeByte(LINE_NUMBER).writeInt(line);
+            super.visitLineNumber(line, start);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            out.writeByte(FIELD_INSTRUCTION).writeInt(opcode).writeString(owner).writeString(name).writeString(descriptor);
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            out.writeByte(METHOD_INSTRUCTION).writeInt(opcode).writeString(owner).writeString(name).writeString(descriptor)
+                    .writeBoolean(isInterface);
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            out.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new AnnotationRecorder(out, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            out.writeByte(ANNOTATION_DEFAULT);
+            return new AnnotationRecorder(out, super.visitAnnotationDefault());
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class AnnotationRecorder extends AnnotationVisitor {
+        private final Output out;
+
+        AnnotationRecorder(Output out, AnnotationVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+            this.out = out;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            out.writeByte(VALUE).writeString(name).writeValue(value);
+            super.visit(name, value);
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            out.writeByte(ENUM).writeString(name).writeString(descriptor).writeString(value);
+            super.visitEnum(name, descriptor, value);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            out.writeByte(ANNOTATION).writeString(name).writeString(descriptor);
+            return new AnnotationRecorder(out, super.visitAnnotation(name, descriptor));
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            out.writeByte(ARRAY).writeString(name);
+            return new AnnotationRecorder(out, super.visitArray(name));
+        }
+
+        @Override
+        public void visitEnd() {
+            out.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    // NOTE: Writing to a ByteArrayOutputStream never throws any IOException
+    private static class Output {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        Output writeByte(int value) {
+            try {
+                out.writeByte(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        Output writeBoolean(boolean value) {
+            return writeByte(value ? 1 : 0);
+        }
+
+        Output writeInt(int value) {
+            try {
+                out.writeInt(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        Output writeLong(long value) {
+            try {
+                out.writeLong(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        // NOTE: DataOutputStream.writeUTF(..) is limited to 64KB, which might not suffice for string constants
+        Output writeString(String value) {
+            if (value == null) {
+                return writeInt(-1);
+            }
+            byte[] encoded = value.getBytes(UTF_8);
+            writeInt(encoded.length);
+            bytes.write(encoded, 0, encoded.length);
+            return this;
+        }
+
+        Output writeStrings(String[] values) {
+            int length = values != null ? values.length : 0;
+            writeInt(length);
+            for (int i = 0; i < length; i++) {
+                writeString(values[i]);
+            }
+            return this;
+        }
+
+        Output writeValue(Object value) {
+            if (value == null) {
+                return writeByte(NULL);
+            } else if (value instanceof Byte) {
+                return writeByte(BYTE_VALUE).writeByte((Byte) value);
+            } else if (value instanceof Boolean) {
+                return writeByte(BOOLEAN_VALUE).writeBoolean((Boolean) value);
+            } else if (value instanceof Character) {
+                return writeByte(CHAR_VALUE).writeInt((Character) value);
+            } else if (value instanceof Short) {
+                return writeByte(SHORT_VALUE).writeInt((Short) value);
+            } else if (value instanceof Integer) {
+                return writeByte(INT_VALUE).writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                return writeByte(LONG_VALUE).writeLong((Long) value);
+            } else if (value instanceof Float) {
+                return writeByte(FLOAT_VALUE).writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (value instanceof Double) {
+                return writeByte(DOUBLE_VALUE).writeLong(Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof String) {
+                return writeByte(STRING_VALUE).writeString((String) value);
+            } else if (value instanceof Type) {
+                return writeByte(TYPE_VALUE).writeString(((Type) value).getDescriptor());
+            }
+            return writeArrayValue(value);
+        }
+
+        private Output writeArrayValue(Object value) {
+            if (value instanceof byte[]) {
+                byte[] array = (byte[]) value;
+                writeByte(BYTE_ARRAY_VALUE).writeInt(array.length);
+                for (byte element : array) {
+                    writeByte(element);
+                }
+            } else if (value instanceof boolean[]) {
+                boolean[] array = (boolean[]) value;
+                writeByte(BOOLEAN_ARRAY_VALUE).writeInt(array.length);
+                for (boolean element : array) {
+                    writeBoolean(element);
+                }
+            } else if (value instanceof char[]) {
+                char[] array = (char[]) value;
+                writeByte(CHAR_ARRAY_VALUE).writeInt(array.length);
+                for (char element : array) {
+                    writeInt(element);
+                }
+            } else if (value instanceof short[]) {
+                short[] array = (short[]) value;
+                writeByte(SHORT_ARRAY_VALUE).writeInt(array.length);
+                for (short element : array) {
+                    writeInt(element);
+                }
+            } else if (value instanceof int[]) {
+                int[] array = (int[]) value;
+                writeByte(INT_ARRAY_VALUE).writeInt(array.length);
+                for (int element : array) {
+                    writeInt(element);
+                }
+            } else if (value instanceof long[]) {
+                long[] array = (long[]) value;
+                writeByte(LONG_ARRAY_VALUE).writeInt(array.length);
+                for (long element : array) {
+                    writeLong(element);
+                }
+            } else if (value instanceof float[]) {
+                float[] array = (float[]) value;
+                writeByte(FLOAT_ARRAY_VALUE).writeInt(array.length);
+                for (float element : array) {
+                    writeInt(Float.floatToRawIntBits(element));
+                }
+            } else if (value instanceof double[]) {
+                double[] array = (double[]) value;
+                writeByte(DOUBLE_ARRAY_VALUE).writeInt(array.length);
+                for (double element : array) {
+                    writeLong(Double.doubleToRawLongBits(element));
+                }
+            } else {
+                throw new IllegalArgumentException(String.format(
+                        "Can't record value %s of type %s, this is most likely a bug", value, value.getClass().getName()));
+            }
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+
+    // NOTE: Reading from a ByteArrayInputStream only throws an IOException, if the recording is truncated
+    private static class Input {
+        private final DataInputStream in;
+
+        Input(byte[] recording) {
+            in = new DataInputStream(new ByteArrayInputStream(recording));
+        }
+
+        byte readByte() {
+            try {
+                return in.readByte();
+            } catch (IOException e) {
+                throw new IllegalStateException("Class file recording is truncated", e);
+            }
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        int readInt() {
+            try {
+                return in.readInt();
+            } catch (IOException e) {
+                throw new IllegalStateException("Class file recording is truncated", e);
+            }
+        }
+
+        long readLong() {
+            try {
+                return in.readLong();
+            } catch (IOException e) {
+                throw new IllegalStateException("Class file recording is truncated", e);
+            }
+        }
+
+        String readString() {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] encoded = new byte[length];
+            try {
+                in.readFully(encoded);
+            } catch (IOException e) {
+                throw new IllegalStateException("Class file recording is truncated", e);
+            }
+            return new String(encoded, UTF_8);
+        }
+
+        String[] readStrings() {
+            String[] result = new String[readInt()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = readString();
+            }
+            return result;
+        }
+
+        Object readValue() {
+            byte tag = readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case BYTE_VALUE:
+                    return readByte();
+                case BOOLEAN_VALUE:
+                    return readBoolean();
+                case CHAR_VALUE:
+                    return (char) readInt();
+                case SHORT_VALUE:
+                    return (short) readInt();
+                case INT_VALUE:
+                    return readInt();
+                case LONG_VALUE:
+                    return readLong();
+                case FLOAT_VALUE:
+                    return Float.intBitsToFloat(readInt());
+                case DOUBLE_VALUE:
+                    return Double.longBitsToDouble(readLong());
+                case STRING_VALUE:
+                    return readString();
+                case TYPE_VALUE:
+                    return Type.getType(readString());
+                default:
+                    return readArrayValue(tag);
+            }
+        }
+
+        private Object readArrayValue(byte tag) {
+            int length = readInt();
+            switch (tag) {
+                case BYTE_ARRAY_VALUE:
+                    byte[] bytes = new byte[length];
+                    for (int i = 0; i < length; i++) {
+                        bytes[i] = readByte();
+                    }
+                    return bytes;
+                case BOOLEAN_ARRAY_VALUE:
+                    boolean[] booleans = new boolean[length];
+                    for (int i = 0; i < length; i++) {
+                        booleans[i] = readBoolean();
+                    }
+                    return booleans;
+                case CHAR_ARRAY_VALUE:
+                    char[] chars = new char[length];
+                    for (int i = 0; i < length; i++) {
+                        chars[i] = (char) readInt();
+                    }
+                    return chars;
+                case SHORT_ARRAY_VALUE:
+                    short[] shorts = new short[length];
+                    for (int i = 0; i < length; i++) {
+                        shorts[i] = (short) readInt();
+                    }
+                    return shorts;
+                case INT_ARRAY_VALUE:
+                    int[] ints = new int[length];
+                    for (int i = 0; i < length; i++) {
+                        ints[i] = readInt();
+                    }
+                    return ints;
+                case LONG_ARRAY_VALUE:
+                    long[] longs = new long[length];
+                    for (int i = 0; i < length; i++) {
+                        longs[i] = readLong();
+                    }
+                    return longs;
+                case FLOAT_ARRAY_VALUE:
+                    float[] floats = new float[length];
+                    for (int i = 0; i < length; i++) {
+                        floats[i] = Float.intBitsToFloat(readInt());
+                    }
+                    return floats;
+                case DOUBLE_ARRAY_VALUE:
+                    double[] doubles = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        doubles[i] = Double.longBitsToDouble(readLong());
+                    }
+                    return doubles;
+                default:
+                    throw unknown(tag);
+            }
+        }
+    }
+}
@@ -15,16 +15,22 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -33,8 +39,8 @@ import java.util.jar.JarEntry;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
-import com.google.common.base.Supplier;
 import com.google.common.collect.FluentIterable;
+import com.google.common.io.ByteStreams;
 import com.tngtech.archunit.Internal;
 
 interface ClassFileSource extends Iterable<ClassFileLocation> {
@@ -62,7 +68,7 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
             if (shouldBeConsidered(file)) {
-                classFileLocations.add(new InputStreamSupplierClassFileLocation(file.toUri(), newInputStreamSupplierFor(file)));
+                classFileLocations.add(new ClassFileInFileSystem(file));
             }
             return FileVisitResult.CONTINUE;
         }
@@ -74,13 +80,51 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
                     && importOptions.include(Location.of(file));
         }
 
-        private Supplier<InputStream> newInputStreamSupplierFor(final Path file) {
-            return new InputStreamSupplier() {
-                @Override
-                InputStream getInputStream() throws IOException {
+        private static class ClassFileInFileSystem implements ClassFileLocation {
+            private final Path file;
+            private final URI uri;
+
+            private ClassFileInFileSystem(Path file) {
+                this.file = file;
+                this.uri = file.toUri();
+            }
+
+            @Override
+            public InputStream openStream() {
+                try {
                     return Files.newInputStream(file);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
                 }
-            };
+            }
+
+            // NOTE: Reading the file through its channel directly into an array of the exact size
+            //       avoids the intermediate buffers of InputStream and ClassReader
+            @Override
+            public byte[] readBytes() throws IOException {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    if (size > Integer.MAX_VALUE) {
+                        return ByteStreams.toByteArray(Channels.newInputStream(channel));
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                    int read = 0;
+                    while (buffer.hasRemaining() && read >= 0) {
+                        read = channel.read(buffer);
+                    }
+                    return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+                }
+            }
+
+            @Override
+            public URI getUri() {
+                return uri;
+            }
+
+            @Override
+            public String toString() {
+                return getClass().getSimpleName() + "{uri=" + uri + '}';
+            }
         }
     }
 
@@ -99,7 +143,7 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
                         .filter(classFilesBeneath(path))
                         .transform(toClassFilesInJarOf(connection))
                         .filter(by(importOptions))
-                        .transform(toInputStreamSupplier());
+                        .transform(toClassFileLocation());
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -133,16 +177,11 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             };
         }
 
-        private Function<ClassFileInJar, ClassFileLocation> toInputStreamSupplier() {
+        private Function<ClassFileInJar, ClassFileLocation> toClassFileLocation() {
             return new Function<ClassFileInJar, ClassFileLocation>() {
                 @Override
-                public ClassFileLocation apply(final ClassFileInJar input) {
-                    return new InputStreamSupplierClassFileLocation(input.getUri(), new InputStreamSupplier() {
-                        @Override
-                        InputStream getInputStream() throws IOException {
-                            return input.openStream();
-                        }
-                    });
+                public ClassFileLocation apply(ClassFileInJar input) {
+                    return input;
                 }
             };
         }
@@ -152,7 +191,7 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             return classFileLocations.iterator();
         }
 
-        private static class ClassFileInJar {
+        private static class ClassFileInJar implements ClassFileLocation {
             private final JarURLConnection connection;
             private final JarEntry jarEntry;
             private final URI uri;
@@ -167,33 +206,59 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
                 return Location.of(connection.getJarFileURL()).append(input.getName()).asURI();
             }
 
-            URI getUri() {
+            @Override
+            public URI getUri() {
                 return uri;
             }
 
-            InputStream openStream() throws IOException {
-                return connection.getJarFile().getInputStream(jarEntry);
+            @Override
+            public InputStream openStream() {
+                try {
+                    return connection.getJarFile().getInputStream(jarEntry);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            // NOTE: The uncompressed size is known from the central directory of the JAR file in almost all cases,
+            //       so the entry can be inflated directly into an array of the exact size
+            @Override
+            public byte[] readBytes() throws IOException {
+                long size = jarEntry.getSize();
+                try (InputStream inputStream = connection.getJarFile().getInputStream(jarEntry)) {
+                    if (size < 0 || size > Integer.MAX_VALUE) {
+                        return ByteStreams.toByteArray(inputStream);
+                    }
+                    byte[] bytes = new byte[(int) size];
+                    ByteStreams.readFully(inputStream, bytes);
+                    return bytes;
+                }
             }
 
             boolean isIncludedIn(ImportOptions importOptions) {
                 return importOptions.include(Location.of(uri));
             }
+
+            @Override
+            public String toString() {
+                return getClass().getSimpleName() + "{uri=" + uri + '}';
+            }
         }
     }
 
     @Internal
-    class InputStreamSupplierClassFileLocation implements ClassFileLocation {
+    class InMemoryClassFileLocation implements ClassFileLocation {
         private final URI uri;
-        private final Supplier<InputStream> streamSupplier;
+        private final byte[] bytes;
 
-        InputStreamSupplierClassFileLocation(URI uri, Supplier<InputStream> streamSupplier) {
+        private InMemoryClassFileLocation(URI uri, byte[] bytes) {
             this.uri = uri;
-            this.streamSupplier = streamSupplier;
+            this.bytes = bytes;
         }
 
         @Override
         public InputStream openStream() {
-            return streamSupplier.get();
+            return new ByteArrayInputStream(bytes);
         }
 
         @Override
@@ -202,23 +267,18 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
 
         @Override
-        public String toString() {
-            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        public byte[] readBytes() {
+            return bytes;
         }
-    }
 
-    @Internal
-    abstract class InputStreamSupplier implements Supplier<InputStream> {
         @Override
-        public InputStream get() {
-            try {
-                return getInputStream();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
         }
 
-        abstract InputStream getInputStream() throws IOException;
+        static InMemoryClassFileLocation readFrom(ClassFileLocation location) throws IOException {
+            return new InMemoryClassFileLocation(location.getUri(), location.readBytes());
+        }
     }
 
     @Internal
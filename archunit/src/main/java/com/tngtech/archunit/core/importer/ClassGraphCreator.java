@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -62,10 +63,24 @@ class ClassGraphCreator implements ImportContext {
     private final Function<JavaClass, Set<String>> superClassStrategy;
     private final Function<JavaClass, Set<String>> interfaceStrategy;
     private final MemberDependenciesByTarget memberDependenciesByTarget = new MemberDependenciesByTarget();
+    private final AccessRecord.Factory<RawAccessRecord.ForField, FieldAccessRecord> fieldAccessRecordFactory =
+            AccessRecord.Factory.forFieldAccessRecord();
+    private final AccessRecord.Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> methodCallRecordFactory =
+            AccessRecord.Factory.forMethodCallRecord();
+    private final AccessRecord.Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> constructorCallRecordFactory =
+            AccessRecord.Factory.forConstructorCallRecord();
 
     ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver) {
+        this(importRecord, Collections.<String, JavaClass>emptyMap(), classResolver);
+    }
+
+    /**
+     * @param alreadyResolved Classes that are not imported themselves, but have already been resolved
+     *                        (e.g. transitively), before the class graph is created
+     */
+    ClassGraphCreator(ClassFileImportRecord importRecord, Map<String, JavaClass> alreadyResolved, ClassResolver classResolver) {
         this.importRecord = importRecord;
-        classes = new ImportedClasses(importRecord.getClasses(), classResolver);
+        classes = new ImportedClasses(importRecord.getClasses(), alreadyResolved, classResolver);
         superClassStrategy = createSuperClassStrategy();
         interfaceStrategy = createInterfaceStrategy();
     }
@@ -93,13 +108,13 @@ class ClassGraphCreator implements ImportContext {
         ensureClassHierarchies();
         completeMembers();
         for (RawAccessRecord.ForField fieldAccessRecord : importRecord.getRawFieldAccessRecords()) {
-            tryProcess(fieldAccessRecord, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
+            tryProcess(fieldAccessRecord, fieldAccessRecordFactory, processedFieldAccessRecords);
         }
         for (RawAccessRecord methodCallRecord : importRecord.getRawMethodCallRecords()) {
-            tryProcess(methodCallRecord, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords);
+            tryProcess(methodCallRecord, methodCallRecordFactory, processedMethodCallRecords);
         }
         for (RawAccessRecord constructorCallRecord : importRecord.getRawConstructorCallRecords()) {
-            tryProcess(constructorCallRecord, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
+            tryProcess(constructorCallRecord, constructorCallRecordFactory, processedConstructorCallRecords);
         }
         return createJavaClasses(classes.getDirectlyImported(), this);
     }
@@ -279,6 +279,7 @@ public final class DomainBuilders {
     public static final class JavaClassBuilder {
         private Optional<URI> sourceURI = Optional.absent();
         private Optional<String> sourceFileName = Optional.absent();
+        private Optional<byte[]> sourceBytes = Optional.absent();
         private JavaType javaType;
         private boolean isInterface;
         private boolean isEnum;
@@ -297,6 +298,11 @@ public final class DomainBuilders {
             return this;
         }
 
+        JavaClassBuilder withSourceBytes(Optional<byte[]> sourceBytes) {
+            this.sourceBytes = sourceBytes;
+            return this;
+        }
+
         @SuppressWarnings("unchecked")
         JavaClassBuilder withType(JavaType javaType) {
             this.javaType = javaType;
@@ -323,7 +329,12 @@ public final class DomainBuilders {
         }
 
         public Optional<Source> getSource() {
-            return sourceURI.isPresent() ? Optional.of(createSource(sourceURI.get(), sourceFileName)) : Optional.<Source>absent();
+            if (!sourceURI.isPresent()) {
+                return Optional.absent();
+            }
+            return sourceBytes.isPresent() ?
+                    Optional.of(createSource(sourceURI.get(), sourceFileName, sourceBytes.get())) :
+                    Optional.of(createSource(sourceURI.get(), sourceFileName));
         }
 
         public JavaType getJavaType() {
@@ -15,11 +15,15 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Set;
+import java.util.TreeSet;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -50,6 +54,38 @@ public final class ImportOptions {
         return new ImportOptions(ImmutableSet.<ImportOption>builder().addAll(options).add(option).build());
     }
 
+    /**
+     * @return An identifier for each option, if all options are stateless, i.e. if all options with the same identifier
+     * are guaranteed to include the same locations. That is the case for enum constants and for options, where the class
+     * declares no instance fields. Otherwise {@link Optional#absent()}.
+     */
+    Optional<Set<String>> getStatelessOptionIdentifiers() {
+        Set<String> result = new TreeSet<>();
+        for (ImportOption option : options) {
+            if (option instanceof Enum<?>) {
+                Enum<?> constant = (Enum<?>) option;
+                result.add(constant.getDeclaringClass().getName() + "." + constant.name());
+            } else if (declaresNoInstanceFields(option.getClass())) {
+                result.add(option.getClass().getName());
+            } else {
+                return Optional.absent();
+            }
+        }
+        return Optional.<Set<String>>of(result);
+    }
+
+    // NOTE: Synthetic fields count as well, e.g. the reference of an inner class to the enclosing instance
+    private static boolean declaresNoInstanceFields(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     boolean include(Location location) {
         for (ImportOption option : options) {
             if (!option.includes(location)) {
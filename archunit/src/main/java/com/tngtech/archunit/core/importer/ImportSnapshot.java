@@ -0,0 +1,354 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.ClassVisitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.importer.ClassFileImportCache.moveReplacing;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A snapshot of the {@link ClassFileRecording ClassFileRecordings} of all class files imported from certain
+ * {@link Location Locations} with certain {@link ImportOptions}. Thus several JVMs importing the same locations,
+ * like the forked test JVMs of a build, can share one import: the first JVM writes the snapshot, all other JVMs
+ * neither scan the locations nor read or parse any class file, but replay the recordings from the memory mapped
+ * snapshot file. Each recording is only copied from the snapshot file, once the respective class is imported.
+ * <br><br>
+ * A snapshot is only used, if it has been written for the same locations and import options, and none of the files
+ * the class files have been read from (i.e. the class files themselves or the archives containing them) and none of
+ * the directories within the imported directories has been modified since. Since adding, removing or renaming a file
+ * modifies the directory containing it, class files added to a directory are detected as well.
+ * <br><br>
+ * Import options are only identified by their type (or their name for enum constants), thus snapshots are only
+ * supported for stateless import options (compare {@link ImportOptions#getStatelessOptionIdentifiers()}).
+ */
+class ImportSnapshot {
+    private static final Logger LOG = LoggerFactory.getLogger(ImportSnapshot.class);
+    private static final int FORMAT_VERSION = 2;
+    private static final String JAR_SEPARATOR = "!/";
+
+    private final List<ClassFileLocation> classFileLocations;
+    private final Map<URI, Recording> recordingsByUri;
+
+    private ImportSnapshot(List<ClassFileLocation> classFileLocations, Map<URI, Recording> recordingsByUri) {
+        this.classFileLocations = classFileLocations;
+        this.recordingsByUri = recordingsByUri;
+    }
+
+    List<ClassFileLocation> getClassFileLocations() {
+        return classFileLocations;
+    }
+
+    ClassFileImportCache asImportCache() {
+        return new ClassFileImportCache() {
+            @Override
+            void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+                Recording recording = recordingsByUri.get(location.getUri());
+                if (recording != null) {
+                    ClassFileRecording.replay(recording.read(), visitor);
+                } else {
+                    parse(location, visitor);
+                }
+            }
+
+            @Override
+            void flush() {
+            }
+        };
+    }
+
+    /**
+     * @return The key identifying the snapshot of the given locations and options, or {@link Optional#absent()},
+     * if the options can't be identified, since any of them is not stateless
+     */
+    static Optional<String> keyOf(Collection<Location> locations, ImportOptions importOptions) {
+        Optional<Set<String>> optionIdentifiers = importOptions.getStatelessOptionIdentifiers();
+        if (!optionIdentifiers.isPresent()) {
+            LOG.info("Not using an import snapshot, since some import option declares instance fields, "
+                    + "thus options of the same type might include different locations");
+            return Optional.absent();
+        }
+        Set<String> locationUris = new TreeSet<>();
+        for (Location location : locations) {
+            locationUris.add(location.asURI().toString());
+        }
+        return Optional.of("options=" + optionIdentifiers.get() + "\nlocations=" + Joiner.on('\n').join(locationUris));
+    }
+
+    static String fileNameOf(String key) {
+        return Hashing.sha1().hashString(key, UTF_8).toString() + ".archunit-snapshot";
+    }
+
+    static Optional<ImportSnapshot> tryLoad(Path snapshotFile, String key) {
+        if (!Files.exists(snapshotFile)) {
+            return Optional.absent();
+        }
+        // NOTE: The mapped buffer stays valid after the channel has been closed
+        try (FileChannel channel = FileChannel.open(snapshotFile, READ)) {
+            MappedByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+            if (in.readInt() != FORMAT_VERSION || !readString(in).equals(key) || !sourcesUnchanged(in)) {
+                LOG.debug("Discarding outdated import snapshot {}", snapshotFile);
+                return Optional.absent();
+            }
+            return Optional.of(readIndex(in, buffer));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn(String.format("Couldn't read import snapshot %s, ignoring it", snapshotFile), e);
+            return Optional.absent();
+        }
+    }
+
+    private static boolean sourcesUnchanged(DataInputStream in) throws IOException {
+        int numberOfSources = in.readInt();
+        for (int i = 0; i < numberOfSources; i++) {
+            File source = new File(in.readUTF());
+            long lastModified = in.readLong();
+            long length = in.readLong();
+            if (!source.exists() || source.lastModified() != lastModified || source.length() != length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // NOTE: Only the positions of the recordings are read up front, the recordings themselves stay within the mapped file
+    private static ImportSnapshot readIndex(DataInputStream in, ByteBuffer buffer) throws IOException {
+        ImmutableList.Builder<ClassFileLocation> classFileLocations = ImmutableList.builder();
+        Map<URI, Recording> recordingsByUri = new HashMap<>();
+        int numberOfRecordings = in.readInt();
+        for (int i = 0; i < numberOfRecordings; i++) {
+            URI uri = URI.create(in.readUTF());
+            int length = in.readInt();
+            int offset = buffer.position();
+            buffer.position(offset + length);
+            classFileLocations.add(new SnapshotClassFileLocation(uri));
+            recordingsByUri.put(uri, new Recording(buffer, offset, length));
+        }
+        return new ImportSnapshot(classFileLocations.build(), recordingsByUri);
+    }
+
+    /**
+     * Writes the recordings of the given class files in the order of the class files, since the order determines
+     * which class file wins, if several class files declare the same class. Failures are only logged,
+     * since the snapshot must never break the import itself.
+     */
+    static void tryWrite(Path snapshotFile, String key, Collection<Location> locations,
+            List<ClassFileLocation> classFileLocations, ClassFileImportCache.InMemory importCache) {
+        try {
+            write(snapshotFile, key, locations, classFileLocations, importCache);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn(String.format("Couldn't write import snapshot %s", snapshotFile), e);
+        }
+    }
+
+    private static void write(Path snapshotFile, String key, Collection<Location> locations,
+            List<ClassFileLocation> classFileLocations, ClassFileImportCache.InMemory importCache) throws IOException {
+
+        Map<URI, byte[]> recordings = new LinkedHashMap<>();
+        Set<File> sources = directoriesWithin(locations);
+        for (ClassFileLocation location : classFileLocations) {
+            Optional<byte[]> recording = importCache.getRecording(location.getUri());
+            if (recording.isPresent()) {
+                recordings.put(location.getUri(), recording.get());
+                sources.addAll(sourceFileOf(location.getUri()).asSet());
+            }
+        }
+
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, key);
+            out.writeInt(sources.size());
+            for (File source : sources) {
+                out.writeUTF(source.getAbsolutePath());
+                out.writeLong(source.lastModified());
+                out.writeLong(source.length());
+            }
+            out.writeInt(recordings.size());
+            for (Map.Entry<URI, byte[]> entry : recordings.entrySet()) {
+                out.writeUTF(entry.getKey().toString());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        }
+        moveReplacing(tempFile, snapshotFile);
+    }
+
+    private static Set<File> directoriesWithin(Collection<Location> locations) throws IOException {
+        final Set<File> result = new LinkedHashSet<>();
+        for (Location location : locations) {
+            URI uri = location.asURI();
+            if ("file".equals(uri.getScheme()) && new File(uri).isDirectory()) {
+                Files.walkFileTree(Paths.get(uri), new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                        result.add(directory.toFile());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    // NOTE: Class files that are neither contained in the file system nor within a local archive (e.g. those of the JDK
+    //       runtime image) are not expected to change during a build, thus they are not considered for invalidation
+    private static Optional<File> sourceFileOf(URI uri) {
+        if ("file".equals(uri.getScheme())) {
+            return Optional.of(new File(uri));
+        }
+        if (!"jar".equals(uri.getScheme())) {
+            return Optional.absent();
+        }
+        String path = uri.getRawSchemeSpecificPart();
+        int separatorIndex = path.indexOf(JAR_SEPARATOR);
+        if (separatorIndex < 0) {
+            return Optional.absent();
+        }
+        URI archiveUri = URI.create(path.substring(0, separatorIndex));
+        return "file".equals(archiveUri.getScheme()) ? Optional.of(new File(archiveUri)) : Optional.<File>absent();
+    }
+
+    // NOTE: Unlike DataOutput.writeUTF(..) this supports keys longer than 65535 bytes, e.g. for the whole classpath
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static class Recording {
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        private Recording(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        // NOTE: Recordings might be read concurrently by a parallel import, thus each read uses its own view of the buffer
+        byte[] read() {
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            byte[] result = new byte[length];
+            view.get(result);
+            return result;
+        }
+    }
+
+    private static class SnapshotClassFileLocation implements ClassFileLocation {
+        private final URI uri;
+
+        private SnapshotClassFileLocation(URI uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                return uri.toURL().openStream();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public byte[] readBytes() throws IOException {
+            try (InputStream inputStream = openStream()) {
+                return ByteStreams.toByteArray(inputStream);
+            }
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int numberOfBytes = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, numberOfBytes);
+            return numberOfBytes;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.ConstructorTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.FieldTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.MethodTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+
+/**
+ * Canonical instances of the names, descriptors, callers and targets of the access records of one import.
+ * Large code bases contain millions of accesses, but comparatively few distinct targets
+ * (e.g. every call of {@code String.valueOf(Object)} has the same target). Thus all raw access records
+ * of an import reference the same canonical instances, instead of keeping their own copies until the
+ * import is complete.<br>
+ * The table is thread-safe, so it can be shared by all threads of a parallel import.
+ */
+class ImportSymbols {
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<CodeUnit, CodeUnit> codeUnits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TargetInfo, TargetInfo> targets = new ConcurrentHashMap<>();
+
+    String intern(String string) {
+        String existing = strings.putIfAbsent(string, string);
+        return existing != null ? existing : string;
+    }
+
+    CodeUnit intern(CodeUnit codeUnit) {
+        CodeUnit existing = codeUnits.get(codeUnit);
+        if (existing != null) {
+            return existing;
+        }
+        CodeUnit canonical = new CodeUnit(
+                intern(codeUnit.getName()),
+                internAll(codeUnit.getParameters()),
+                intern(codeUnit.getDeclaringClassName()));
+        existing = codeUnits.putIfAbsent(canonical, canonical);
+        return existing != null ? existing : canonical;
+    }
+
+    private List<String> internAll(List<String> strings) {
+        List<String> result = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            result.add(intern(string));
+        }
+        return result;
+    }
+
+    FieldTargetInfo fieldTarget(String owner, String name, String desc) {
+        return intern(new FieldTargetInfo(intern(owner), intern(name), intern(desc)));
+    }
+
+    ConstructorTargetInfo constructorTarget(String owner, String name, String desc) {
+        return intern(new ConstructorTargetInfo(intern(owner), intern(name), intern(desc)));
+    }
+
+    MethodTargetInfo methodTarget(String owner, String name, String desc) {
+        return intern(new MethodTargetInfo(intern(owner), intern(name), intern(desc)));
+    }
+
+    @SuppressWarnings("unchecked") // equal targets are always of the same class
+    private <T extends TargetInfo> T intern(T target) {
+        TargetInfo existing = targets.putIfAbsent(target, target);
+        return existing != null ? (T) existing : target;
+    }
+
+    int numberOfDistinctTargets() {
+        return targets.size();
+    }
+}
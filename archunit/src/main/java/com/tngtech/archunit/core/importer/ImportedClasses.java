@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,7 +41,12 @@ class ImportedClasses {
     private final ClassResolver resolver;
 
     ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver) {
+        this(directlyImported, Collections.<String, JavaClass>emptyMap(), resolver);
+    }
+
+    ImportedClasses(Map<String, JavaClass> directlyImported, Map<String, JavaClass> alreadyResolved, ClassResolver resolver) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
+        this.additionalClasses.putAll(alreadyResolved);
         this.resolver = resolver;
     }
 
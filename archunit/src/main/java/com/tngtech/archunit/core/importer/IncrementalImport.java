@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * The result of {@link ClassFileImporter#importLocationsIncrementally(Collection)}. Besides the imported
+ * {@link JavaClasses}, it keeps the relevant information of all imported class files in memory. Thus
+ * {@link #update(Collection)} only needs to read and parse those class files, that have been changed, added or
+ * deleted in the meantime, instead of walking and parsing all locations again.
+ * <br><br>
+ * Note that the class graph is always completed anew, since any unchanged class might depend on a changed class.
+ * However, completing the graph in memory is cheap compared to reading and parsing all class files again.
+ */
+public final class IncrementalImport {
+    private final ClassFileImporter importer;
+    private final List<ClassFileLocation> classFileLocations;
+    private final ClassFileImportCache.InMemory importCache;
+    private final JavaClasses classes;
+
+    private IncrementalImport(ClassFileImporter importer, List<ClassFileLocation> classFileLocations, ClassFileImportCache.InMemory importCache) {
+        this.importer = importer;
+        this.classFileLocations = classFileLocations;
+        this.importCache = importCache;
+        this.classes = importer.process(classFileLocations, importCache);
+    }
+
+    static IncrementalImport start(ClassFileImporter importer, Collection<Location> locations) {
+        return new IncrementalImport(importer, importer.classFileLocationsOf(locations), ClassFileImportCache.inMemory());
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses getClasses() {
+        return classes;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public IncrementalImport update(Location... changedLocations) {
+        return update(ImmutableList.copyOf(changedLocations));
+    }
+
+    /**
+     * @param changedLocations Locations of class files that have been changed, added or deleted, or of directories
+     *                         containing such class files. All previously imported class files within these locations
+     *                         are discarded, and whatever is found at these locations now, is imported.
+     * @return A new {@link IncrementalImport} reflecting the changes, this instance stays unchanged
+     */
+    @PublicAPI(usage = ACCESS)
+    public IncrementalImport update(Collection<Location> changedLocations) {
+        ImmutableList.Builder<ClassFileLocation> updatedClassFileLocations = ImmutableList.builder();
+        Set<URI> discarded = new HashSet<>();
+        for (ClassFileLocation classFileLocation : classFileLocations) {
+            if (isWithinAny(classFileLocation.getUri(), changedLocations)) {
+                discarded.add(classFileLocation.getUri());
+            } else {
+                updatedClassFileLocations.add(classFileLocation);
+            }
+        }
+        List<ClassFileLocation> newClassFileLocations = importer.classFileLocationsOf(changedLocations);
+        for (ClassFileLocation classFileLocation : newClassFileLocations) {
+            discarded.add(classFileLocation.getUri());
+        }
+        updatedClassFileLocations.addAll(newClassFileLocations);
+        return new IncrementalImport(importer, updatedClassFileLocations.build(), importCache.without(discarded));
+    }
+
+    // NOTE: Location URIs are normalized, e.g. file:/some/path/ instead of file:///some/path, and end in '/' for directories
+    private static boolean isWithinAny(URI classFileUri, Collection<Location> locations) {
+        String normalizedClassFileUri = NormalizedUri.from(classFileUri).toString();
+        for (Location location : locations) {
+            String locationUri = location.asURI().toString();
+            if (normalizedClassFileUri.equals(locationUri)
+                    || (locationUri.endsWith("/") && normalizedClassFileUri.startsWith(locationUri))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -70,17 +70,31 @@ class JavaClassProcessor extends ClassVisitor {
     private DomainBuilders.JavaClassBuilder javaClassBuilder;
     private final Set<DomainBuilders.JavaAnnotationBuilder> annotations = new HashSet<>();
     private final URI sourceURI;
+    private final Optional<byte[]> sourceBytes;
     private final DeclarationHandler declarationHandler;
     private final AccessHandler accessHandler;
     private String className;
 
     JavaClassProcessor(URI sourceURI, DeclarationHandler declarationHandler) {
-        this(sourceURI, declarationHandler, NO_OP);
+        this(sourceURI, Optional.<byte[]>absent(), declarationHandler);
+    }
+
+    JavaClassProcessor(URI sourceURI, Optional<byte[]> sourceBytes, DeclarationHandler declarationHandler) {
+        this(sourceURI, sourceBytes, declarationHandler, NO_OP);
     }
 
     JavaClassProcessor(URI sourceURI, DeclarationHandler declarationHandler, AccessHandler accessHandler) {
+        this(sourceURI, Optional.<byte[]>absent(), declarationHandler, accessHandler);
+    }
+
+    /**
+     * @param sourceBytes The bytes of the class file, if they have been read already (e.g. to calculate the md5 sum),
+     *                    to avoid reading the class file a second time
+     */
+    JavaClassProcessor(URI sourceURI, Optional<byte[]> sourceBytes, DeclarationHandler declarationHandler, AccessHandler accessHandler) {
         super(ASM_API_VERSION);
         this.sourceURI = sourceURI;
+        this.sourceBytes = sourceBytes;
         this.declarationHandler = declarationHandler;
         this.accessHandler = accessHandler;
     }
@@ -113,6 +127,7 @@ class JavaClassProcessor extends ClassVisitor {
 
         javaClassBuilder = new DomainBuilders.JavaClassBuilder()
                 .withSourceUri(sourceURI)
+                .withSourceBytes(sourceBytes)
                 .withType(javaType)
                 .withInterface(opCodeForInterfaceIsPresent)
                 .withEnum(opCodeForEnumIsPresent)
@@ -28,12 +28,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * A {@link ClassResolver} that tries to locate missing dependencies on the classpath.
- * I.e. uses {@link Class#getResource(String)} to find the {@link URI} of the classfile for the missing
- * type, then uses the supplied {@link ClassResolver.ClassUriImporter} to import the type.
+ * I.e. looks up the {@link URI} of the classfile for the missing type within an index of the classpath
+ * (falling back to {@link Class#getResource(String)} for classes not found on the classpath, like JDK classes
+ * from JDK 9 on), then uses the supplied {@link ClassResolver.ClassUriImporter} to import the type.
  */
 @MayResolveTypesViaReflection(reason = "This is a dedicated option to resolve further dependencies from the classpath")
 public final class ClassResolverFromClasspath implements ClassResolver {
     private ClassUriImporter classUriImporter;
+    private ClasspathIndex classpathIndex;
 
     @Override
     public void setClassUriImporter(ClassUriImporter classUriImporter) {
@@ -43,15 +45,25 @@ public final class ClassResolverFromClasspath implements ClassResolver {
 
     @Override
     public Optional<JavaClass> tryResolve(String typeName) {
-        String typeFile = "/" + typeName.replace(".", "/") + ".class";
+        String typeFile = typeName.replace(".", "/") + ".class";
 
-        Optional<URI> uri = tryGetUriOf(typeFile);
+        Optional<URI> uri = getClasspathIndex().tryGetUriOf(typeFile);
+        if (!uri.isPresent()) {
+            uri = tryGetResourceUriOf(typeFile);
+        }
 
         return uri.isPresent() ? classUriImporter.tryImport(uri.get()) : Optional.<JavaClass>absent();
     }
 
-    private Optional<URI> tryGetUriOf(String typeFile) {
-        URL resource = getClass().getResource(typeFile);
+    private ClasspathIndex getClasspathIndex() {
+        if (classpathIndex == null) {
+            classpathIndex = ClasspathIndex.ofCurrentClasspath();
+        }
+        return classpathIndex;
+    }
+
+    private Optional<URI> tryGetResourceUriOf(String typeFile) {
+        URL resource = getClass().getResource("/" + typeFile);
         if (resource == null) {
             return Optional.absent();
         }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.list;
+
+/**
+ * Locates class files on the classpath by their resource name (e.g. <code>com/foo/Bar.class</code>).
+ * The entries of all Jar files on the classpath are indexed once, so a lookup does not need to
+ * query every single Jar file. Directories are checked directly, since a file within a directory can be looked
+ * up by its name anyway. If a class file is contained in several classpath elements, the first one wins,
+ * just like for class loading.
+ */
+class ClasspathIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private static ClasspathIndex cachedIndex;
+
+    private final Set<Location> classpath;
+    private final Map<String, JarOnClasspath> jarsByEntryName = new HashMap<>();
+    private final List<DirectoryOnClasspath> directories = new ArrayList<>();
+
+    private ClasspathIndex(Set<Location> classpath) {
+        this.classpath = classpath;
+        int position = 0;
+        for (Location location : classpath) {
+            if (location.isJar() && location.asURI().toString().startsWith("jar:file:")) {
+                index(new JarOnClasspath(position, location.asURI()));
+            } else if (!location.isArchive() && location.asURI().getScheme().equals("file")) {
+                directories.add(new DirectoryOnClasspath(position, new File(location.asURI())));
+            }
+            position++;
+        }
+    }
+
+    private void index(JarOnClasspath jar) {
+        File file = jar.getFile();
+        if (!file.isFile()) {
+            return;
+        }
+        try (JarFile jarFile = new JarFile(file)) {
+            for (JarEntry entry : list(jarFile.entries())) {
+                if (entry.getName().endsWith(".class") && !jarsByEntryName.containsKey(entry.getName())) {
+                    jarsByEntryName.put(entry.getName(), jar);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Couldn't index Jar file " + file, e);
+        }
+    }
+
+    /**
+     * The classpath does not change during the lifetime of a JVM in most cases, thus the index is only
+     * rebuilt, if the classpath does differ from the classpath of the last index.
+     */
+    static synchronized ClasspathIndex ofCurrentClasspath() {
+        Set<Location> classpath = Locations.inClassPath();
+        if (cachedIndex == null || !cachedIndex.classpath.equals(classpath)) {
+            cachedIndex = new ClasspathIndex(classpath);
+        }
+        return cachedIndex;
+    }
+
+    Optional<URI> tryGetUriOf(String resourceName) {
+        JarOnClasspath jar = jarsByEntryName.get(resourceName);
+        int positionOfJar = jar != null ? jar.position : Integer.MAX_VALUE;
+        for (DirectoryOnClasspath directory : directories) {
+            if (directory.position > positionOfJar) {
+                break;
+            }
+            File file = new File(directory.file, resourceName);
+            if (file.isFile()) {
+                return Optional.of(file.toURI());
+            }
+        }
+        return jar != null ? Optional.of(jar.uriOf(resourceName)) : Optional.<URI>absent();
+    }
+
+    private static class JarOnClasspath {
+        private final int position;
+        private final String uri;
+
+        JarOnClasspath(int position, URI uri) {
+            this.position = position;
+            this.uri = uri.toString().replaceAll("!/.*", "!/");
+        }
+
+        File getFile() {
+            return new File(URI.create(uri.replaceAll("^jar:", "").replaceAll("!/$", "")));
+        }
+
+        URI uriOf(String entryName) {
+            return URI.create(uri + entryName);
+        }
+    }
+
+    private static class DirectoryOnClasspath {
+        private final int position;
+        private final File file;
+
+        DirectoryOnClasspath(int position, File file) {
+            this.position = position;
+            this.file = file;
+        }
+    }
+}
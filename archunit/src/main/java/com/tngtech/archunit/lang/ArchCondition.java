@@ -54,11 +54,28 @@ public abstract class ArchCondition<T> {
      * Can be used/overridden to finish the evaluation of this condition.<br>
      * ArchUnit will call this method once after every single item was checked (by {@link #check(Object, ConditionEvents)}.<br>
      * This method can be used, if violations are dependent on multiple/all {@link #check(Object, ConditionEvents)} calls,
-     * on the contrary to the default case, where each single {@link #check(Object, ConditionEvents)} stands for itself.
+     * on the contrary to the default case, where each single {@link #check(Object, ConditionEvents)} stands for itself.<br>
+     * Note that during the evaluation of a rule, the passed events only retain violations, i.e.
+     * {@link ConditionEvents#getAllowed()} will be empty, even if {@link #check(Object, ConditionEvents)} has added
+     * allowed events before.
      */
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Can be overridden to declare that {@link #check(Object, ConditionEvents)} may be called concurrently for
+     * different objects, i.e. that checking one object neither depends on nor modifies any state shared with
+     * the checks of other objects. Only such conditions will be evaluated in parallel, if parallel evaluation is enabled
+     * (compare {@link com.tngtech.archunit.ArchConfiguration#setParallelEvaluationEnabled(boolean)}).<br>
+     * Conditions that collect state from all objects to evaluate it within {@link #finish(ConditionEvents)}
+     * must not return true.
+     *
+     * @return true, if objects may be checked concurrently, false otherwise (the default)
+     */
+    public boolean supportsConcurrentChecks() {
+        return false;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return new AndCondition<>(this, condition.<T>forSubType());
     }
@@ -87,6 +104,11 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean supportsConcurrentChecks() {
+                return ArchCondition.this.supportsConcurrentChecks();
+            }
         };
     }
 
@@ -130,6 +152,16 @@ public abstract class ArchCondition<T> {
             }
         }
 
+        @Override
+        public boolean supportsConcurrentChecks() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.supportsConcurrentChecks()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         List<ConditionWithEvents<T>> evaluateConditions(T item) {
             List<ConditionWithEvents<T>> evaluate = new ArrayList<>();
             for (ArchCondition<T> condition : conditions) {
@@ -15,14 +15,7 @@
  */
 package com.tngtech.archunit.lang;
 
-import java.io.IOException;
-import java.net.URL;
-import java.util.Collections;
-import java.util.Set;
-import java.util.regex.Pattern;
-
-import com.google.common.base.Predicate;
-import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
@@ -37,9 +30,8 @@ import com.tngtech.archunit.lang.syntax.elements.ClassesShouldThat;
 import com.tngtech.archunit.lang.syntax.elements.ClassesThat;
 import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
-import static com.google.common.io.Resources.readLines;
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Represents a rule about a specified set of objects of interest (e.g. {@link JavaClass}).
@@ -65,6 +57,23 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @PublicAPI(usage = ACCESS)
     ArchRule because(String reason);
 
+    /**
+     * Limits the number of violations this rule reports. As soon as the given number of violations has been reached,
+     * further violations will only be counted, and the failure report will state that further violations have not been
+     * reported. This overrides the global maximum configured via
+     * {@link ArchConfiguration#setMaxNumberOfViolationsPerRule(int)}. Violations ignored via
+     * <code>archunit_ignore_patterns.txt</code> are not counted.
+     * <br><br>
+     * If the condition is stateless (compare {@link ArchCondition#supportsConcurrentChecks()}), no further objects will be
+     * checked at all once the limit has been reached. Any other condition is still passed all objects, since it might
+     * evaluate all objects within {@link ArchCondition#finish(ConditionEvents)} (like the check for slice cycles).
+     *
+     * @param maxNumberOfViolations The maximum number of violations to report, must be positive
+     * @return A rule reporting at most <code>maxNumberOfViolations</code> violations
+     */
+    @PublicAPI(usage = ACCESS)
+    ArchRule limitViolationsTo(int maxNumberOfViolations);
+
     @PublicAPI(usage = ACCESS)
     final class Assertions {
         private static final ArchUnitExtensions extensions = new ArchUnitExtensions();
@@ -73,7 +82,6 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
         }
 
         static final String ARCHUNIT_IGNORE_PATTERNS_FILE_NAME = "archunit_ignore_patterns.txt";
-        private static final String COMMENT_LINE_PREFIX = "#";
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
@@ -84,52 +92,13 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void assertNoViolation(EvaluationResult result) {
-            FailureReport report = result.getFailureReport();
-
-            Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
-            report = report.filter(notMatchedByAny(patterns));
+            IgnorePatterns ignorePatterns = IgnorePatterns.readFromClasspath(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
+            FailureReport report = result.getFailureReport(ignorePatterns.notMatchedByAny());
             if (!report.isEmpty()) {
                 throw new AssertionError(report.toString());
             }
         }
 
-        private static Predicate<String> notMatchedByAny(final Set<Pattern> patterns) {
-            return new Predicate<String>() {
-                @Override
-                public boolean apply(String message) {
-                    for (Pattern pattern : patterns) {
-                        if (pattern.matcher(message.replaceAll("\r*\n", " ")).matches()) {
-                            return false;
-                        }
-                    }
-                    return true;
-                }
-            };
-        }
-
-        private static Set<Pattern> readPatternsFrom(String fileNameInClassPath) {
-            URL ignorePatternsResource = Assertions.class.getResource('/' + fileNameInClassPath);
-            if (ignorePatternsResource == null) {
-                return Collections.emptySet();
-            }
-
-            try {
-                return readPatternsFrom(ignorePatternsResource);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        private static Set<Pattern> readPatternsFrom(URL ignorePatternsResource) throws IOException {
-            ImmutableSet.Builder<Pattern> result = ImmutableSet.builder();
-            for (String line : readLines(ignorePatternsResource, UTF_8)) {
-                if (!line.startsWith(COMMENT_LINE_PREFIX)) {
-                    result.add(Pattern.compile(line));
-                }
-            }
-            return result.build();
-        }
-
         private static class SimpleEvaluatedRule implements EvaluatedRule {
             private final ArchRule rule;
             private final JavaClasses importedClasses;
@@ -161,7 +130,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @Internal
     class Factory {
         public static <T> ArchRule create(final ClassesTransformer<T> classesTransformer, final ArchCondition<T> condition, final Priority priority) {
-            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.<String>absent());
+            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.<String>absent(), Optional.<Integer>absent());
         }
 
         public static ArchRule withBecause(ArchRule rule, String reason) {
@@ -173,18 +142,27 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
             private final Optional<String> overriddenDescription;
+            private final Optional<Integer> maxNumberOfViolations;
 
             private SimpleArchRule(Priority priority, ClassesTransformer<T> classesTransformer, ArchCondition<T> condition,
-                    Optional<String> overriddenDescription) {
+                    Optional<String> overriddenDescription, Optional<Integer> maxNumberOfViolations) {
                 this.priority = priority;
                 this.classesTransformer = classesTransformer;
                 this.condition = condition;
                 this.overriddenDescription = overriddenDescription;
+                this.maxNumberOfViolations = maxNumberOfViolations;
             }
 
             @Override
             public ArchRule as(String newDescription) {
-                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription));
+                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription), maxNumberOfViolations);
+            }
+
+            @Override
+            public ArchRule limitViolationsTo(int maxNumberOfViolations) {
+                checkArgument(maxNumberOfViolations > 0,
+                        "The maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription, Optional.of(maxNumberOfViolations));
             }
 
             @Override
@@ -201,10 +179,13 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             public EvaluationResult evaluate(JavaClasses classes) {
                 Iterable<T> allObjects = classesTransformer.transform(classes);
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
-                for (T object : allObjects) {
-                    condition.check(object, events);
-                }
+                IgnorePatterns ignorePatterns = IgnorePatterns.readFromClasspath(Assertions.ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
+                ConditionCheck<T> check = new ConditionCheck<>(condition,
+                        maxNumberOfViolations.or(ArchConfiguration.get().getMaxNumberOfViolationsPerRule()),
+                        ignorePatterns.notMatchedByAny());
+                ConditionEvents events = ArchConfiguration.get().parallelEvaluationEnabled() && condition.supportsConcurrentChecks() ?
+                        check.checkInParallel(allObjects) :
+                        check.checkSequentially(allObjects);
                 condition.finish(events);
                 return new EvaluationResult(this, events, priority);
             }
@@ -259,5 +240,24 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                 return String.format("because '%s'", reason);
             }
         }
+
+        @Internal
+        final class LimitViolations implements Transformation {
+            private final int maxNumberOfViolations;
+
+            public LimitViolations(int maxNumberOfViolations) {
+                this.maxNumberOfViolations = maxNumberOfViolations;
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.limitViolationsTo(maxNumberOfViolations);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("limit violations to %d", maxNumberOfViolations);
+            }
+        }
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Passes all objects of a rule to {@link ArchCondition#check(Object, ConditionEvents)}. Since only violations are reported,
+ * there is no need to retain the allowed events of all objects. Conditions relying on allowed events (e.g. to invert them)
+ * collect those in their own events. Violations, that are ignored completely by the given filter, are dropped right away.
+ * <br><br>
+ * Once the maximum number of reported violations is reached, further violations are only counted. Conditions that support
+ * concurrent checks are stateless (compare {@link ArchCondition#supportsConcurrentChecks()}), thus for those
+ * no further objects are checked at all. Any other condition might still aggregate the checked objects within
+ * {@link ArchCondition#finish(ConditionEvents)}, thus it is passed all objects.
+ */
+class ConditionCheck<T> {
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final ArchCondition<T> condition;
+    private final int maxNumberOfViolations;
+    private final Predicate<String> reportedLineFilter;
+
+    ConditionCheck(ArchCondition<T> condition, int maxNumberOfViolations, Predicate<String> reportedLineFilter) {
+        this.condition = condition;
+        this.maxNumberOfViolations = maxNumberOfViolations;
+        this.reportedLineFilter = reportedLineFilter;
+    }
+
+    ConditionEvents checkSequentially(Iterable<T> allObjects) {
+        ConditionEvents events = ConditionEvents.retainingOnlyViolations(maxNumberOfViolations, reportedLineFilter);
+        boolean mayStopEarly = condition.supportsConcurrentChecks();
+        for (T object : allObjects) {
+            if (mayStopEarly && events.isMaxNumberOfRetainedViolationsReached()) {
+                events.markCheckStoppedEarly();
+                break;
+            }
+            condition.check(object, events);
+        }
+        return events;
+    }
+
+    // NOTE: Each batch of consecutive objects is checked into its own events by a worker thread. Merging these events
+    //       in the original order of the batches retains the same violations as a sequential check would.
+    //       Batches following the batch where the maximum number of violations is reached are cancelled,
+    //       i.e. those not yet started are skipped and the results of all of them are discarded.
+    ConditionEvents checkInParallel(Iterable<T> allObjects) {
+        List<T> objects = ImmutableList.copyOf(allObjects);
+        int batchSize = Math.max(1, (int) Math.ceil(objects.size() / (double) (SharedExecutor.NUMBER_OF_THREADS * BATCHES_PER_THREAD)));
+
+        List<Future<ConditionEvents>> partialEvents = new ArrayList<>();
+        try {
+            for (final List<T> batch : Lists.partition(objects, batchSize)) {
+                partialEvents.add(SharedExecutor.INSTANCE.submit(new Callable<ConditionEvents>() {
+                    @Override
+                    public ConditionEvents call() {
+                        return checkSequentially(batch);
+                    }
+                }));
+            }
+            ConditionEvents result = ConditionEvents.retainingOnlyViolations(maxNumberOfViolations, reportedLineFilter);
+            for (Future<ConditionEvents> partial : partialEvents) {
+                if (result.isMaxNumberOfRetainedViolationsReached()) {
+                    result.markCheckStoppedEarly();
+                    break;
+                }
+                result.addAll(Futures.getUnchecked(partial));
+            }
+            return result;
+        } finally {
+            cancel(partialEvents);
+        }
+    }
+
+    private void cancel(List<Future<ConditionEvents>> partialEvents) {
+        for (Future<ConditionEvents> partial : partialEvents) {
+            partial.cancel(false);
+        }
+    }
+
+    // NOTE: The worker threads are created lazily once and shared by all evaluations, since creating a thread pool
+    //       for every rule would cost more than the parallel check of a small rule saves. The threads are daemon
+    //       threads, so the pool never needs to be shut down.
+    private static class SharedExecutor {
+        private static final int NUMBER_OF_THREADS = Runtime.getRuntime().availableProcessors();
+        private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(NUMBER_OF_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("archunit-evaluation-%d").setDaemon(true).build());
+    }
+}
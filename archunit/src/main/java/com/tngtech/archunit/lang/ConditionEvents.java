@@ -15,15 +15,20 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.reflect.TypeToken;
 import com.tngtech.archunit.PublicAPI;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
@@ -31,13 +36,125 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(true, Integer.MAX_VALUE, Predicates.<String>alwaysTrue());
+    }
+
+    private ConditionEvents(boolean retainAllowedEvents, int maxNumberOfRetainedViolations, Predicate<String> reportedLineFilter) {
+        checkArgument(maxNumberOfRetainedViolations >= 0,
+                "The maximum number of retained violations must not be negative, but was %s", maxNumberOfRetainedViolations);
+        this.retainAllowedEvents = retainAllowedEvents;
+        this.maxNumberOfRetainedViolations = maxNumberOfRetainedViolations;
+        this.reportedLineFilter = reportedLineFilter;
+    }
+
+    /**
+     * Creates {@link ConditionEvents} to collect the final events of a rule evaluation, where only violations
+     * are of interest. Allowed events are only counted, but not retained, thus {@link #getAllowed()} will always
+     * be empty. Of all violations, only the first <code>maxNumberOfRetainedViolations</code> are retained, any further
+     * violation is only counted (compare {@link #getNumberOfViolations()}).
+     * <br><br>
+     * NOTE: Such events must not be used to collect events that are supposed to be inverted later on
+     * (compare {@link ConditionEvent#addInvertedTo(ConditionEvents)}), since an allowed event becomes a violation,
+     * once it is inverted.
+     *
+     * @param maxNumberOfRetainedViolations The maximum number of violations to retain
+     * @return {@link ConditionEvents} retaining only violations
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvents retainingOnlyViolations(int maxNumberOfRetainedViolations) {
+        return new ConditionEvents(false, maxNumberOfRetainedViolations, Predicates.<String>alwaysTrue());
+    }
+
+    /**
+     * Like {@link #retainingOnlyViolations(int)}, but violations, where no line of the description is accepted by
+     * the given filter (e.g. because all lines are ignored), are dropped right away. Thus ignored violations
+     * are neither retained nor counted towards the maximum number of retained violations.
+     */
+    static ConditionEvents retainingOnlyViolations(int maxNumberOfRetainedViolations, Predicate<String> reportedLineFilter) {
+        return new ConditionEvents(false, maxNumberOfRetainedViolations, reportedLineFilter);
     }
 
     private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
+    private final boolean retainAllowedEvents;
+    private final int maxNumberOfRetainedViolations;
+    private final Predicate<String> reportedLineFilter;
+    private int numberOfAllowedEvents;
+    private int numberOfViolations;
+    private boolean checkStoppedEarly;
 
     @PublicAPI(usage = ACCESS)
     public void add(ConditionEvent event) {
-        eventsByViolation.get(Type.from(event.isViolation())).add(event);
+        if (!event.isViolation() || isReported(event)) {
+            addUnfiltered(event);
+        }
+    }
+
+    // NOTE: Without any filter, e.g. if there are no ignore patterns, there is no need to describe every violation
+    private boolean isReported(ConditionEvent event) {
+        if (reportedLineFilter == Predicates.<String>alwaysTrue()) {
+            return true;
+        }
+        final List<String> lines = new ArrayList<>();
+        event.describeTo(new CollectsLines() {
+            @Override
+            public void add(String line) {
+                lines.add(line);
+            }
+        });
+        for (String line : lines) {
+            if (reportedLineFilter.apply(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addUnfiltered(ConditionEvent event) {
+        if (event.isViolation()) {
+            addViolation(event);
+        } else {
+            addAllowed(event);
+        }
+    }
+
+    private void addViolation(ConditionEvent event) {
+        numberOfViolations++;
+        if (numberOfViolations <= maxNumberOfRetainedViolations) {
+            eventsByViolation.put(Type.VIOLATION, event);
+        }
+    }
+
+    private void addAllowed(ConditionEvent event) {
+        numberOfAllowedEvents++;
+        if (retainAllowedEvents) {
+            eventsByViolation.put(Type.ALLOWED, event);
+        }
+    }
+
+    // NOTE: The events of other have already been filtered when they have been added there
+    void addAll(ConditionEvents other) {
+        for (ConditionEvent event : other) {
+            addUnfiltered(event);
+        }
+        numberOfViolations += other.getNumberOfUnretainedViolations();
+        numberOfAllowedEvents += other.numberOfAllowedEvents - other.getAllowed().size();
+        checkStoppedEarly |= other.checkStoppedEarly;
+    }
+
+    boolean isMaxNumberOfRetainedViolationsReached() {
+        return numberOfViolations >= maxNumberOfRetainedViolations;
+    }
+
+    int getNumberOfUnretainedViolations() {
+        return numberOfViolations - getViolating().size();
+    }
+
+    void markCheckStoppedEarly() {
+        checkStoppedEarly = true;
+    }
+
+    boolean isCheckStoppedEarly() {
+        return checkStoppedEarly;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -45,19 +162,36 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         return eventsByViolation.get(Type.VIOLATION);
     }
 
+    /**
+     * NOTE: The events of a rule evaluation only retain violations (compare {@link #retainingOnlyViolations(int)}).
+     * Thus for the events passed to {@link ArchCondition#finish(ConditionEvents)} during the evaluation of a rule,
+     * the allowed events will always be empty, even if allowed events have been added by
+     * {@link ArchCondition#check(Object, ConditionEvents)}. A condition relying on allowed events must collect those itself.
+     *
+     * @return All allowed events, that have been retained
+     */
     @PublicAPI(usage = ACCESS)
     public Collection<ConditionEvent> getAllowed() {
         return eventsByViolation.get(Type.ALLOWED);
     }
 
+    /**
+     * @return The number of all violations added, including those violations that have not been retained
+     * (compare {@link #retainingOnlyViolations(int)})
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfViolations() {
+        return numberOfViolations;
+    }
+
     @PublicAPI(usage = ACCESS)
     public boolean containViolation() {
-        return !getViolating().isEmpty();
+        return numberOfViolations > 0;
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
-        return getAllowed().isEmpty() && getViolating().isEmpty();
+        return numberOfAllowedEvents == 0 && numberOfViolations == 0;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -33,6 +33,20 @@ class ConfiguredMessageFormat {
                 priority.asString(), rule.getDescription(), failureMessages.size(), violationTexts);
     }
 
+    String formatFailure(HasDescription rule, Collection<String> failureMessages, Priority priority,
+            int numberOfUnreportedViolations, boolean evaluationStoppedEarly) {
+        String failure = formatFailure(rule, failureMessages, priority);
+        if (numberOfUnreportedViolations > 0) {
+            failure += String.format("%n(%d further violation(s) not reported, since the maximum number of violations was reached)",
+                    numberOfUnreportedViolations);
+        }
+        if (evaluationStoppedEarly) {
+            failure += String.format("%n(evaluation was stopped after reaching the maximum number of violations, "
+                    + "thus there might be further violations)");
+        }
+        return failure;
+    }
+
     <T> String formatRuleText(HasDescription itemsUnderTest, ArchCondition<T> condition) {
         return String.format("%s should %s", itemsUnderTest.getDescription(), condition.getDescription());
     }
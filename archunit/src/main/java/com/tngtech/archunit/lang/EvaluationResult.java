@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.lang;
 
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -34,6 +36,8 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  *     }
  * });
  * </code></pre>
+ * Violations of an evaluated {@link ArchRule} that are ignored completely via <code>archunit_ignore_patterns.txt</code>
+ * are not part of the result.
  */
 public final class EvaluationResult {
     private final HasDescription rule;
@@ -54,16 +58,23 @@ public final class EvaluationResult {
 
     @PublicAPI(usage = ACCESS)
     public FailureReport getFailureReport() {
-        FailureReport failureReport = new FailureReport(rule, priority);
+        return getFailureReport(Predicates.<String>alwaysTrue());
+    }
+
+    /**
+     * Creates a {@link FailureReport} only containing the messages accepted by the given filter,
+     * so messages that are filtered out are never collected into the report.
+     */
+    FailureReport getFailureReport(Predicate<String> messageFilter) {
+        FailureReport failureReport = new FailureReport(rule, priority,
+                events.getNumberOfUnretainedViolations(), events.isCheckStoppedEarly(), messageFilter);
         events.describeFailuresTo(failureReport);
         return failureReport;
     }
 
     @PublicAPI(usage = ACCESS)
     public void add(EvaluationResult part) {
-        for (ConditionEvent event : part.events) {
-            events.add(event);
-        }
+        events.addAll(part.events);
     }
 
     /**
@@ -30,15 +30,36 @@ public final class FailureReport implements CollectsLines {
     private final Set<String> failureMessages = new TreeSet<>();
     private final HasDescription rule;
     private final Priority priority;
+    private final int numberOfUnreportedViolations;
+    private final boolean evaluationStoppedEarly;
+    private final Predicate<String> messageFilter;
 
-    FailureReport(HasDescription rule, Priority priority) {
+    FailureReport(HasDescription rule, Priority priority, int numberOfUnreportedViolations, boolean evaluationStoppedEarly,
+            Predicate<String> messageFilter) {
         this.rule = rule;
         this.priority = priority;
+        this.numberOfUnreportedViolations = numberOfUnreportedViolations;
+        this.evaluationStoppedEarly = evaluationStoppedEarly;
+        this.messageFilter = messageFilter;
     }
 
+    /**
+     * @return true, if there are no failure messages and no violations have been omitted from this report
+     *         (compare {@link #getNumberOfUnreportedViolations()})
+     */
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
-        return failureMessages.isEmpty();
+        return failureMessages.isEmpty() && numberOfUnreportedViolations == 0 && !evaluationStoppedEarly;
+    }
+
+    /**
+     * @return The number of violations that exceeded the configured maximum number of violations
+     *         and are thus not part of {@link #getDetails()}
+     * @see ArchRule#limitViolationsTo(int)
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfUnreportedViolations() {
+        return numberOfUnreportedViolations;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -48,21 +69,14 @@ public final class FailureReport implements CollectsLines {
 
     @Override
     public void add(String message) {
-        failureMessages.add(message);
+        if (messageFilter.apply(message)) {
+            failureMessages.add(message);
+        }
     }
 
     @Override
     public String toString() {
-        return ConfiguredMessageFormat.get().formatFailure(rule, failureMessages, priority);
-    }
-
-    FailureReport filter(Predicate<String> predicate) {
-        FailureReport result = new FailureReport(rule, priority);
-        for (String message : failureMessages) {
-            if (predicate.apply(message)) {
-                result.add(message);
-            }
-        }
-        return result;
+        return ConfiguredMessageFormat.get().formatFailure(
+                rule, failureMessages, priority, numberOfUnreportedViolations, evaluationStoppedEarly);
     }
 }
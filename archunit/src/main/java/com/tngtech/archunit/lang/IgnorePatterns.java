@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Resources;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The compiled patterns of an ignore patterns file within the classpath. The file is only read and compiled once
+ * per JVM, since the same patterns are matched against the violations of every rule evaluated,
+ * while the file is not expected to change during a test run.
+ */
+class IgnorePatterns {
+    private static final String COMMENT_LINE_PREFIX = "#";
+    private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\r*\n");
+    private static final IgnorePatterns NONE = new IgnorePatterns(ImmutableList.<Pattern>of());
+
+    private static final Map<String, IgnorePatterns> readByFileName = new HashMap<>();
+
+    private final List<Pattern> patterns;
+
+    private IgnorePatterns(List<Pattern> patterns) {
+        this.patterns = patterns;
+    }
+
+    Predicate<String> notMatchedByAny() {
+        if (patterns.isEmpty()) {
+            return Predicates.alwaysTrue();
+        }
+        return new Predicate<String>() {
+            @Override
+            public boolean apply(String message) {
+                String singleLineMessage = LINE_BREAK_PATTERN.matcher(message).replaceAll(" ");
+                for (Pattern pattern : patterns) {
+                    if (pattern.matcher(singleLineMessage).matches()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    static synchronized IgnorePatterns readFromClasspath(String fileNameInClassPath) {
+        IgnorePatterns result = readByFileName.get(fileNameInClassPath);
+        if (result == null) {
+            result = read(fileNameInClassPath);
+            readByFileName.put(fileNameInClassPath, result);
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    static synchronized void reset() {
+        readByFileName.clear();
+    }
+
+    private static IgnorePatterns read(String fileNameInClassPath) {
+        URL ignorePatternsResource = IgnorePatterns.class.getResource('/' + fileNameInClassPath);
+        if (ignorePatternsResource == null) {
+            return NONE;
+        }
+        try {
+            ImmutableList.Builder<Pattern> result = ImmutableList.builder();
+            for (String line : Resources.readLines(ignorePatternsResource, UTF_8)) {
+                if (!line.startsWith(COMMENT_LINE_PREFIX)) {
+                    result.add(Pattern.compile(line));
+                }
+            }
+            return new IgnorePatterns(result.build());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -42,6 +42,11 @@ abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass>
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    @Override
+    public boolean supportsConcurrentChecks() {
+        return condition.supportsConcurrentChecks();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
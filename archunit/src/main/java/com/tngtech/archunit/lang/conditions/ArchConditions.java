@@ -416,7 +416,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> be(final String className) {
-        return new ArchCondition<JavaClass>("be " + className) {
+        return new StatelessCondition<JavaClass>("be " + className) {
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 boolean itemEquivalentToClazz = javaClass.getName().equals(className);
@@ -438,7 +438,7 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveFullyQualifiedName(final String name) {
         final DescribedPredicate<HasName> haveFullyQualifiedName = have(fullyQualifiedName(name));
-        return new ArchCondition<JavaClass>(haveFullyQualifiedName.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveFullyQualifiedName.getDescription()) {
             @Override
             public void check(JavaClass clazz, ConditionEvents events) {
                 boolean satisfied = haveFullyQualifiedName.apply(clazz);
@@ -466,7 +466,7 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveSimpleName(final String name) {
         final DescribedPredicate<JavaClass> haveSimpleName = have(simpleName(name));
-        return new ArchCondition<JavaClass>(haveSimpleName.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveSimpleName.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveSimpleName.apply(item);
@@ -489,7 +489,7 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameStartingWith(final String prefix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameStartingWith(prefix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
@@ -512,7 +512,7 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameContaining(final String infix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameContaining(infix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
@@ -535,7 +535,7 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameEndingWith(final String suffix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameEndingWith(suffix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
@@ -557,7 +557,7 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveNameMatching(final String regex) {
         final DescribedPredicate<HasName> haveNameMatching = have(nameMatching(regex));
-        return new ArchCondition<JavaClass>(haveNameMatching.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveNameMatching.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveNameMatching.apply(item);
@@ -597,7 +597,7 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> residesConditionForPredicate(final DescribedPredicate<JavaClass> resideInAPackage) {
-        return new ArchCondition<JavaClass>(resideInAPackage.getDescription()) {
+        return new StatelessCondition<JavaClass>(resideInAPackage.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = resideInAPackage.apply(item);
@@ -614,7 +614,7 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveModifier(final JavaModifier modifier) {
         final DescribedPredicate<HasModifiers> haveModifier = have(modifier(modifier));
-        return new ArchCondition<JavaClass>(haveModifier.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveModifier.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveModifier.apply(item);
@@ -678,7 +678,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveOnlyFinalFields() {
-        return new ArchCondition<JavaClass>("have only final fields") {
+        return new StatelessCondition<JavaClass>("have only final fields") {
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 SortedSet<String> notFinalFieldNames = getNonFinalFieldNamesOf(javaClass);
@@ -763,7 +763,7 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createAnnotatedCondition(final DescribedPredicate<CanBeAnnotated> annotatedWith) {
-        return new ArchCondition<JavaClass>(ArchPredicates.be(annotatedWith).getDescription()) {
+        return new StatelessCondition<JavaClass>(ArchPredicates.be(annotatedWith).getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = annotatedWith.apply(item);
@@ -808,7 +808,7 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createImplementsCondition(final DescribedPredicate<? super JavaClass> implement) {
-        return new ArchCondition<JavaClass>(implement.getDescription()) {
+        return new StatelessCondition<JavaClass>(implement.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = implement.apply(item);
@@ -886,7 +886,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> beInterfaces() {
-        return new ArchCondition<JavaClass>("be interfaces") {
+        return new StatelessCondition<JavaClass>("be interfaces") {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean isInterface = item.isInterface();
@@ -929,7 +929,7 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createAssignableCondition(final DescribedPredicate<JavaClass> assignable) {
-        return new ArchCondition<JavaClass>(ArchPredicates.be(assignable).getDescription()) {
+        return new StatelessCondition<JavaClass>(ArchPredicates.be(assignable).getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = assignable.apply(item);
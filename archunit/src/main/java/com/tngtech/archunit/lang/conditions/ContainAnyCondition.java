@@ -42,6 +42,11 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentChecks() {
+        return condition.supportsConcurrentChecks();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
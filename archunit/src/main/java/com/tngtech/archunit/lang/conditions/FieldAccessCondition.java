@@ -17,7 +17,6 @@ package com.tngtech.archunit.lang.conditions;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaFieldAccess;
-import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 
@@ -25,7 +24,7 @@ import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.GET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.SET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.Predicates.accessType;
 
-class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
+class FieldAccessCondition extends StatelessCondition<JavaFieldAccess> {
     private final DescribedPredicate<? super JavaFieldAccess> fieldAccessIdentifier;
 
     FieldAccessCondition(DescribedPredicate<? super JavaFieldAccess> fieldAccessIdentifier) {
@@ -17,11 +17,10 @@ package com.tngtech.archunit.lang.conditions;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaAccess;
-import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 
-class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
+class JavaAccessCondition<T extends JavaAccess<?>> extends StatelessCondition<T> {
     private final DescribedPredicate<? super T> predicate;
 
     JavaAccessCondition(DescribedPredicate<? super T> predicate) {
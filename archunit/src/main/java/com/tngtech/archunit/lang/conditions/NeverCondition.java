@@ -50,6 +50,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentChecks() {
+        return condition.supportsConcurrentChecks();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import com.tngtech.archunit.lang.ArchCondition;
+
+/**
+ * Base of conditions, where each check only depends on the object checked, e.g. because it just evaluates
+ * a predicate. Thus such conditions can check several objects concurrently.
+ */
+abstract class StatelessCondition<T> extends ArchCondition<T> {
+    StatelessCondition(String description) {
+        super(description);
+    }
+
+    @Override
+    public final boolean supportsConcurrentChecks() {
+        return true;
+    }
+}
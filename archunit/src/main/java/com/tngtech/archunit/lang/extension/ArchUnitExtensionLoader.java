@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.ServiceLoader;
 
 import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +37,8 @@ class ArchUnitExtensionLoader {
             checkIdentifiersNonNull(extensions);
             checkIdentifiersValid(extensions);
             checkIdentifiersUnique(extensions);
-            return extensions;
+            // NOTE: The iterator of a ServiceLoader lazily loads the services and is not safe to share between threads
+            return ImmutableList.copyOf(extensions);
         }
 
         private void log(ServiceLoader<ArchUnitExtension> extensions) {
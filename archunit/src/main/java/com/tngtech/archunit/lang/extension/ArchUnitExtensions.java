@@ -60,10 +60,14 @@ public class ArchUnitExtensions {
         return Boolean.valueOf(extensionProperties.getProperty(ENABLED_PROPERTY, "false"));
     }
 
+    // NOTE: Rules might be checked concurrently (e.g. by a test engine executing tests in parallel), but extensions
+    //       are loaded once and might rely on handle(..) being called right after configure(..)
     private void configureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
         try {
-            extension.configure(extensionProperties);
-            extension.handle(evaluatedRule);
+            synchronized (extension) {
+                extension.configure(extensionProperties);
+                extension.handle(evaluatedRule);
+            }
         } catch (RuntimeException e) {
             LOG.warn(String.format("Error in extension '%s'", extension.getUniqueIdentifier()), e);
         }
@@ -376,6 +376,11 @@ class ClassesShouldThatInternal implements ClassesShouldThat, ClassesShouldConju
         return finishedRule.get().as(description);
     }
 
+    @Override
+    public ArchRule limitViolationsTo(int maxNumberOfViolations) {
+        return finishedRule.get().limitViolationsTo(maxNumberOfViolations);
+    }
+
     private ClassesShouldThatInternal shouldWith(DescribedPredicate<? super JavaClass> predicate) {
         return new ClassesShouldThatInternal(classesShould,
                 predicateAggregator.add(predicate),
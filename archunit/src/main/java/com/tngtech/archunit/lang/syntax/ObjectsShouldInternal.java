@@ -85,6 +85,11 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().as(newDescription);
     }
 
+    @Override
+    public ArchRule limitViolationsTo(int maxNumberOfViolations) {
+        return finishedRule.get().limitViolationsTo(maxNumberOfViolations);
+    }
+
     @Override
     public String toString() {
         return finishedRule.get().getDescription();
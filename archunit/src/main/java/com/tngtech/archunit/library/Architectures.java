@@ -15,17 +15,19 @@
  */
 package com.tngtech.archunit.library;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Optional;
@@ -34,6 +36,7 @@ import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
@@ -44,7 +47,6 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
-import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.equivalentTo;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsWhere;
@@ -95,22 +97,26 @@ public final class Architectures {
         private final Set<LayerDependencySpecification> dependencySpecifications;
         private final PredicateAggregator<Dependency> irrelevantDependenciesPredicate;
         private final Optional<String> overriddenDescription;
+        private final Optional<Integer> maxNumberOfViolations;
 
         private LayeredArchitecture() {
             this(new LinkedHashMap<String, LayerDefinition>(),
                     new LinkedHashSet<LayerDependencySpecification>(),
                     new PredicateAggregator<Dependency>().thatORs(),
-                    Optional.<String>absent());
+                    Optional.<String>absent(),
+                    Optional.<Integer>absent());
         }
 
         private LayeredArchitecture(Map<String, LayerDefinition> layerDefinitions,
                 Set<LayerDependencySpecification> dependencySpecifications,
                 PredicateAggregator<Dependency> irrelevantDependenciesPredicate,
-                Optional<String> overriddenDescription) {
+                Optional<String> overriddenDescription,
+                Optional<Integer> maxNumberOfViolations) {
             this.layerDefinitions = layerDefinitions;
             this.dependencySpecifications = dependencySpecifications;
             this.irrelevantDependenciesPredicate = irrelevantDependenciesPredicate;
             this.overriddenDescription = overriddenDescription;
+            this.maxNumberOfViolations = maxNumberOfViolations;
         }
 
         private LayeredArchitecture addLayerDefinition(LayerDefinition definition) {
@@ -146,14 +152,18 @@ public final class Architectures {
 
         @Override
         public EvaluationResult evaluate(JavaClasses classes) {
-            EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
+            int maxViolations = maxNumberOfViolations.or(ArchConfiguration.get().getMaxNumberOfViolationsPerRule());
+            EvaluationResult result = new EvaluationResult(this, ConditionEvents.retainingOnlyViolations(maxViolations), Priority.MEDIUM);
+            LayerAssignment layerAssignment = new LayerAssignment(layerDefinitions.values());
             for (LayerDependencySpecification specification : dependencySpecifications) {
-                SortedSet<String> packagesOfOwnLayer = packagesOf(specification.layerName);
-                SortedSet<String> packagesOfAllowedAccessors = packagesOf(specification.allowedAccessors);
-                packagesOfAllowedAccessors.addAll(packagesOfOwnLayer);
-
-                EvaluationResult partial = classes().that().resideInAnyPackage(toArray(packagesOfOwnLayer))
-                        .should(onlyHaveDependentsWhere(originPackageMatchesIfDependencyIsRelevant(packagesOfAllowedAccessors)))
+                Set<String> layersOfAllowedAccessors = ImmutableSet.<String>builder()
+                        .add(specification.layerName)
+                        .addAll(specification.allowedAccessors)
+                        .build();
+
+                EvaluationResult partial = classes().that(layerAssignment.containedIn(specification.layerName))
+                        .should(onlyHaveDependentsWhere(originIsContainedIfDependencyIsRelevant(layerAssignment, layersOfAllowedAccessors)))
+                        .limitViolationsTo(maxViolations)
                         .evaluate(classes);
 
                 result.add(partial);
@@ -161,13 +171,13 @@ public final class Architectures {
             return result;
         }
 
-        private DescribedPredicate<Dependency> originPackageMatchesIfDependencyIsRelevant(SortedSet<String> packagesOfAllowedAccessors) {
-            DescribedPredicate<Dependency> originPackageMatches =
-                    dependencyOrigin(JavaClass.Functions.GET_PACKAGE_NAME.is(PackageMatchers.of(toArray(packagesOfAllowedAccessors))));
+        private DescribedPredicate<Dependency> originIsContainedIfDependencyIsRelevant(
+                LayerAssignment layerAssignment, Set<String> layersOfAllowedAccessors) {
+            DescribedPredicate<Dependency> originIsContained = layerAssignment.originContainedInAnyOf(layersOfAllowedAccessors);
 
             return irrelevantDependenciesPredicate.isPresent() ?
-                    originPackageMatches.or(irrelevantDependenciesPredicate.get()) :
-                    originPackageMatches;
+                    originIsContained.or(irrelevantDependenciesPredicate.get()) :
+                    originIsContained;
         }
 
         @Override
@@ -184,7 +194,16 @@ public final class Architectures {
         public LayeredArchitecture as(String newDescription) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate, Optional.of(newDescription));
+                    irrelevantDependenciesPredicate, Optional.of(newDescription), maxNumberOfViolations);
+        }
+
+        @Override
+        public LayeredArchitecture limitViolationsTo(int maxNumberOfViolations) {
+            checkArgument(maxNumberOfViolations > 0,
+                    "The maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+            return new LayeredArchitecture(
+                    layerDefinitions, dependencySpecifications,
+                    irrelevantDependenciesPredicate, overriddenDescription, Optional.of(maxNumberOfViolations));
         }
 
         @PublicAPI(usage = ACCESS)
@@ -202,23 +221,7 @@ public final class Architectures {
                 DescribedPredicate<? super JavaClass> origin, DescribedPredicate<? super JavaClass> target) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription);
-        }
-
-        private String[] toArray(Set<String> strings) {
-            return strings.toArray(new String[0]);
-        }
-
-        private SortedSet<String> packagesOf(String layerName) {
-            return packagesOf(Collections.singleton(layerName));
-        }
-
-        private SortedSet<String> packagesOf(Set<String> allowedAccessorLayerNames) {
-            SortedSet<String> packageIdentifiers = new TreeSet<>();
-            for (String accessor : allowedAccessorLayerNames) {
-                packageIdentifiers.addAll(layerDefinitions.get(accessor).packageIdentifiers);
-            }
-            return packageIdentifiers;
+                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription, maxNumberOfViolations);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -233,6 +236,58 @@ public final class Architectures {
             }
         }
 
+        // NOTE: Every dependency specification needs the layers of all classes within its own layer and of all their
+        //       dependents. Thus each package is matched against the package identifiers of all layers only once, instead
+        //       of matching the package of every class and every dependent again for each dependency specification
+        private static class LayerAssignment {
+            private final Map<String, PackageMatchers> packageMatchersByLayer = new LinkedHashMap<>();
+            private final ConcurrentMap<String, Set<String>> layersByPackage = new ConcurrentHashMap<>();
+
+            LayerAssignment(Collection<LayerDefinition> layerDefinitions) {
+                for (LayerDefinition definition : layerDefinitions) {
+                    packageMatchersByLayer.put(definition.name, PackageMatchers.of(definition.packageIdentifiers));
+                }
+            }
+
+            Set<String> layersOf(JavaClass javaClass) {
+                String packageName = javaClass.getPackageName();
+                Set<String> result = layersByPackage.get(packageName);
+                if (result == null) {
+                    result = matchLayersOf(packageName);
+                    layersByPackage.put(packageName, result);
+                }
+                return result;
+            }
+
+            private Set<String> matchLayersOf(String packageName) {
+                ImmutableSet.Builder<String> result = ImmutableSet.builder();
+                for (Map.Entry<String, PackageMatchers> layerMatchers : packageMatchersByLayer.entrySet()) {
+                    if (layerMatchers.getValue().apply(packageName)) {
+                        result.add(layerMatchers.getKey());
+                    }
+                }
+                return result.build();
+            }
+
+            DescribedPredicate<JavaClass> containedIn(final String layerName) {
+                return new DescribedPredicate<JavaClass>("are contained in layer '%s'", layerName) {
+                    @Override
+                    public boolean apply(JavaClass input) {
+                        return layersOf(input).contains(layerName);
+                    }
+                };
+            }
+
+            DescribedPredicate<Dependency> originContainedInAnyOf(final Set<String> layerNames) {
+                return new DescribedPredicate<Dependency>("origin is contained in any layer of ['%s']", Joiner.on("', '").join(layerNames)) {
+                    @Override
+                    public boolean apply(Dependency input) {
+                        return !Collections.disjoint(layersOf(input.getOriginClass()), layerNames);
+                    }
+                };
+            }
+        }
+
         public final class LayerDefinition {
             private final String name;
             private Set<String> packageIdentifiers;
@@ -15,29 +15,58 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.singleton;
 
+/**
+ * Finds the cycles of the graph in two steps: First the strongly connected components are determined in linear time
+ * (Tarjan), since any cycle must be contained completely within one component. Then the elementary cycles of each
+ * component with more than a trivial structure are enumerated (Johnson), stopping after the configured maximum
+ * number of cycles per component. The number of elementary cycles can grow exponentially with the number of edges,
+ * so for densely connected components only the first cycles found are reported.
+ * <br><br>
+ * Nodes and edges are traversed in the order they have been added, thus the same graph always yields the same cycles,
+ * even if some cycles are omitted (e.g. for nodes without a stable hash code).
+ */
 class Graph<T, ATTACHMENT> {
-    private final Set<T> nodes = new HashSet<>();
-    private final Multimap<T, Edge<T, ATTACHMENT>> outgoingEdges = HashMultimap.create();
-    private final Set<Cycle<T, ATTACHMENT>> cycles = new HashSet<>();
+    private final int maxNumberOfCyclesPerComponent;
+    private final Set<T> nodes = new LinkedHashSet<>();
+    private final Multimap<T, Edge<T, ATTACHMENT>> outgoingEdges = LinkedHashMultimap.create();
+    private Set<Cycle<T, ATTACHMENT>> cycles;
+    private boolean cyclesOmitted;
+
+    Graph() {
+        this(Integer.MAX_VALUE);
+    }
+
+    Graph(int maxNumberOfCyclesPerComponent) {
+        checkArgument(maxNumberOfCyclesPerComponent > 0,
+                "The maximum number of cycles per component must be positive, but was %s", maxNumberOfCyclesPerComponent);
+        this.maxNumberOfCyclesPerComponent = maxNumberOfCyclesPerComponent;
+    }
 
     void add(T node, Set<Edge<T, ATTACHMENT>> connectingEdges) {
         nodes.add(checkNotNull(node));
         for (Edge<T, ATTACHMENT> edge : connectingEdges) {
             addEdge(edge);
         }
-        cycles.addAll(cyclesThrough(node));
+        cycles = null;
     }
 
     private void addEdge(Edge<T, ATTACHMENT> edge) {
@@ -47,38 +76,31 @@ class Graph<T, ATTACHMENT> {
     }
 
     Set<Cycle<T, ATTACHMENT>> getCycles() {
-        return ImmutableSet.copyOf(cycles);
-    }
-
-    private Set<Cycle<T, ATTACHMENT>> cyclesThrough(T node) {
-        Set<Cycle<T, ATTACHMENT>> result = new HashSet<>();
-        for (Path<T, ATTACHMENT> pathThroughNode : follow(outgoingEdges.get(node), new Path<T, ATTACHMENT>(), singleton(node))) {
-            if (pathThroughNode.isCycle()) {
-                result.add(Cycle.from(pathThroughNode));
-            }
+        if (cycles == null) {
+            findCycles();
         }
-        return result;
+        return cycles;
     }
 
-    private Set<Path<T, ATTACHMENT>> follow(Collection<Edge<T, ATTACHMENT>> edges, Path<T, ATTACHMENT> incomingPath, Set<T> visitedNodes) {
-        Set<Path<T, ATTACHMENT>> result = new HashSet<>();
-        for (Edge<T, ATTACHMENT> edge : edges) {
-            result.addAll(follow(edge, incomingPath, visitedNodes));
-        }
-        return result;
+    /**
+     * @return true, if any component contains more cycles than the maximum number of cycles per component,
+     * i.e. if {@link #getCycles()} does not contain all cycles of this graph
+     */
+    boolean isAnyCycleOmitted() {
+        getCycles();
+        return cyclesOmitted;
     }
 
-    private Set<Path<T, ATTACHMENT>> follow(Edge<T, ATTACHMENT> edge, Path<T, ATTACHMENT> incomingPath, Set<T> visitedNodes) {
-        Path<T, ATTACHMENT> newPath = new Path<>(incomingPath).append(edge);
-        if (visitedNodes.contains(newPath.getEnd())) {
-            return singleton(newPath);
+    private void findCycles() {
+        ImmutableSet.Builder<Cycle<T, ATTACHMENT>> result = ImmutableSet.builder();
+        boolean anyCycleOmitted = false;
+        for (Set<T> component : new StronglyConnectedComponents().find()) {
+            ElementaryCycles elementaryCycles = new ElementaryCycles(component);
+            result.addAll(elementaryCycles.find());
+            anyCycleOmitted |= elementaryCycles.cyclesOmitted;
         }
-        Set<T> nowVisited = union(visitedNodes, edge.getTo());
-        return follow(outgoingEdges.get(edge.getTo()), newPath, nowVisited);
-    }
-
-    private Set<T> union(Set<T> set, T additionalElement) {
-        return ImmutableSet.<T>builder().addAll(set).add(additionalElement).build();
+        cycles = result.build();
+        cyclesOmitted = anyCycleOmitted;
     }
 
     @Override
@@ -88,4 +110,130 @@ class Graph<T, ATTACHMENT> {
                 ", edges=" + outgoingEdges.values() +
                 '}';
     }
+
+    private class StronglyConnectedComponents {
+        private final Map<T, Integer> indexes = new HashMap<>();
+        private final Map<T, Integer> lowLinks = new HashMap<>();
+        private final Deque<T> stack = new ArrayDeque<>();
+        private final Set<T> onStack = new HashSet<>();
+        private final List<Set<T>> components = new ArrayList<>();
+
+        List<Set<T>> find() {
+            for (T node : nodes) {
+                if (!indexes.containsKey(node)) {
+                    connect(node);
+                }
+            }
+            return components;
+        }
+
+        private void connect(T node) {
+            int index = indexes.size();
+            indexes.put(node, index);
+            lowLinks.put(node, index);
+            stack.push(node);
+            onStack.add(node);
+
+            for (Edge<T, ATTACHMENT> edge : outgoingEdges.get(node)) {
+                T successor = edge.getTo();
+                if (!indexes.containsKey(successor)) {
+                    connect(successor);
+                    lowLinks.put(node, Math.min(lowLinks.get(node), lowLinks.get(successor)));
+                } else if (onStack.contains(successor)) {
+                    lowLinks.put(node, Math.min(lowLinks.get(node), indexes.get(successor)));
+                }
+            }
+
+            if (lowLinks.get(node).equals(indexes.get(node))) {
+                components.add(popComponentOf(node));
+            }
+        }
+
+        private Set<T> popComponentOf(T root) {
+            Set<T> component = new LinkedHashSet<>();
+            T member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(root));
+            return component;
+        }
+    }
+
+    private class ElementaryCycles {
+        private final Set<T> component;
+        private final Set<T> remaining;
+        private final Set<T> blocked = new HashSet<>();
+        private final SetMultimap<T, T> blockedUntilUnblocked = HashMultimap.create();
+        private final List<Edge<T, ATTACHMENT>> path = new ArrayList<>();
+        private final Set<Cycle<T, ATTACHMENT>> result = new LinkedHashSet<>();
+        private boolean cyclesOmitted;
+
+        ElementaryCycles(Set<T> component) {
+            this.component = component;
+            this.remaining = new HashSet<>(component);
+        }
+
+        Set<Cycle<T, ATTACHMENT>> find() {
+            for (T start : component) {
+                if (cyclesOmitted) {
+                    break;
+                }
+                blocked.clear();
+                blockedUntilUnblocked.clear();
+                findCyclesFrom(start, start);
+                remaining.remove(start);
+            }
+            return result;
+        }
+
+        private boolean findCyclesFrom(T start, T node) {
+            boolean cycleFound = false;
+            blocked.add(node);
+            for (Edge<T, ATTACHMENT> edge : outgoingEdges.get(node)) {
+                T successor = edge.getTo();
+                if (!remaining.contains(successor) || cyclesOmitted) {
+                    continue;
+                }
+                path.add(edge);
+                if (successor.equals(start)) {
+                    add(new Cycle<>(path));
+                    cycleFound = true;
+                } else if (!blocked.contains(successor) && findCyclesFrom(start, successor)) {
+                    cycleFound = true;
+                }
+                path.remove(path.size() - 1);
+            }
+
+            if (cycleFound) {
+                unblock(node);
+            } else {
+                for (Edge<T, ATTACHMENT> edge : outgoingEdges.get(node)) {
+                    if (remaining.contains(edge.getTo())) {
+                        blockedUntilUnblocked.put(edge.getTo(), node);
+                    }
+                }
+            }
+            return cycleFound;
+        }
+
+        private void unblock(T node) {
+            blocked.remove(node);
+            for (T blockedNode : blockedUntilUnblocked.removeAll(node)) {
+                if (blocked.contains(blockedNode)) {
+                    unblock(blockedNode);
+                }
+            }
+        }
+
+        // NOTE: Once the limit is reached, the search only goes on until one further cycle proves that cycles are omitted
+        private void add(Cycle<T, ATTACHMENT> cycle) {
+            if (result.size() < maxNumberOfCyclesPerComponent) {
+                result.add(cycle);
+            } else {
+                cyclesOmitted = true;
+            }
+        }
+    }
 }
@@ -16,7 +16,6 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -33,6 +32,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
 import com.tngtech.archunit.core.domain.Dependency;
@@ -43,6 +43,14 @@ import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
+    // NOTE: Slices are added to the graph in a stable order, so the cycles detected (and omitted) don't vary between runs
+    private static final Ordering<Slice> BY_DESCRIPTION = Ordering.natural().onResultOf(new Function<Slice, String>() {
+        @Override
+        public String apply(Slice input) {
+            return input.getDescription();
+        }
+    });
+
     private final ClassesToSlicesMapping classesToSlicesMapping = new ClassesToSlicesMapping();
     private final DescribedPredicate<Dependency> predicate;
     private DependencyGraph graph;
@@ -70,6 +78,9 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         for (Cycle<Slice, Dependency> cycle : graph.getCycles()) {
             eventRecorder.record(cycle, events);
         }
+        if (graph.isAnyCycleOmitted()) {
+            eventRecorder.recordOmittedCycles(graph, events);
+        }
     }
 
     private void initGraph() {
@@ -77,8 +88,8 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             return;
         }
 
-        graph = new DependencyGraph();
-        for (Slice slice : allObjectsToTest) {
+        graph = new DependencyGraph(ArchConfiguration.get().getMaxNumberOfCyclesToDetectPerComponent());
+        for (Slice slice : BY_DESCRIPTION.sortedCopy(allObjectsToTest)) {
             graph.add(slice, Collections.<Edge<Slice, Dependency>>emptySet());
         }
     }
@@ -109,7 +120,12 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     }
 
     private static class DependencyGraph extends Graph<Slice, Dependency> {
+        private final int maxNumberOfCyclesPerComponent;
 
+        DependencyGraph(int maxNumberOfCyclesPerComponent) {
+            super(maxNumberOfCyclesPerComponent);
+            this.maxNumberOfCyclesPerComponent = maxNumberOfCyclesPerComponent;
+        }
     }
 
     private static class SliceDependencies extends ForwardingSet<Edge<Slice, Dependency>> {
@@ -118,8 +134,8 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         private SliceDependencies(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
             Multimap<Slice, Dependency> targetSlicesWithDependencies = targetsOf(slice, classesToSlicesMapping, predicate);
             ImmutableSet.Builder<Edge<Slice, Dependency>> edgeBuilder = ImmutableSet.builder();
-            for (Map.Entry<Slice, Collection<Dependency>> entry : targetSlicesWithDependencies.asMap().entrySet()) {
-                edgeBuilder.add(new Edge<>(slice, entry.getKey(), entry.getValue()));
+            for (Slice targetSlice : BY_DESCRIPTION.sortedCopy(targetSlicesWithDependencies.keySet())) {
+                edgeBuilder.add(new Edge<>(slice, targetSlice, targetSlicesWithDependencies.get(targetSlice)));
             }
             this.edges = edgeBuilder.build();
         }
@@ -147,6 +163,9 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
 
     private static class EventRecorder {
         private static final String MESSAGE_TEMPLATE = "Cycle detected: %s%n%s";
+        private static final String OMITTED_CYCLES_MESSAGE_TEMPLATE =
+                "Further cycles have been omitted, since at most %d cycles are detected per strongly connected component "
+                        + "(compare configuration property '%s')";
         private static final Function<Edge<Slice, Dependency>, String> GET_FROM_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
             @Override
             public String apply(Edge<Slice, Dependency> input) {
@@ -158,6 +177,11 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             events.add(newEvent(cycle));
         }
 
+        void recordOmittedCycles(DependencyGraph graph, ConditionEvents events) {
+            events.add(new SimpleConditionEvent(graph, false, String.format(OMITTED_CYCLES_MESSAGE_TEMPLATE,
+                    graph.maxNumberOfCyclesPerComponent, ArchConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PER_COMPONENT)));
+        }
+
         private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
             Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
             String description = createDescription(descriptionsToEdges);
@@ -28,6 +28,7 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.ArchRule.Transformation.LimitViolations;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
@@ -83,6 +84,11 @@ public final class SliceRule implements ArchRule {
         return copyWithTransformation(new As(newDescription));
     }
 
+    @Override
+    public SliceRule limitViolationsTo(int maxNumberOfViolations) {
+        return copyWithTransformation(new LimitViolations(maxNumberOfViolations));
+    }
+
     @PublicAPI(usage = ACCESS)
     public SliceRule ignoreDependency(Class<?> origin, Class<?> target) {
         return ignoreDependency(equivalentTo(origin), equivalentTo(target));
@@ -15,27 +15,42 @@
  */
 package com.tngtech.archunit.library.plantuml;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
 class JavaClassDiagramAssociation {
     private final Set<AssociatedComponent> components;
+    private final Map<PlantUmlComponent, Set<PlantUmlComponent>> allowedTargetComponents;
+    // NOTE: There are far fewer packages than classes, and the components of a package never change,
+    //       thus the components are looked up once per package and not for every class or dependency
+    private final ConcurrentMap<String, Set<PlantUmlComponent>> componentsByPackage = new ConcurrentHashMap<>();
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
         ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
+        ImmutableMap.Builder<PlantUmlComponent, Set<PlantUmlComponent>> allowedTargetComponents = ImmutableMap.builder();
         validateStereotypes(diagram);
         for (PlantUmlComponent component : diagram.getAllComponents()) {
             components.add(new AssociatedComponent(component));
+            allowedTargetComponents.put(component, ImmutableSet.<PlantUmlComponent>builder()
+                    .add(component)
+                    .addAll(component.getDependencies())
+                    .build());
         }
         this.components = components.build();
+        this.allowedTargetComponents = allowedTargetComponents.build();
     }
 
     private void validateStereotypes(PlantUmlDiagram plantUmlDiagram) {
@@ -50,24 +65,15 @@ class JavaClassDiagramAssociation {
         }
     }
 
-    Set<String> getTargetPackageIdentifiers(final JavaClass javaClass) {
-        ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (PlantUmlComponent target : getComponentOf(javaClass).getDependencies()) {
-            result.addAll(getPackageIdentifiersFromComponentOf(target));
-        }
-        return result.build();
-    }
-
-    Set<String> getPackageIdentifiersFromComponentOf(JavaClass javaClass) {
-        return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass));
+    /**
+     * @return The component of the given class and all components this component may depend on
+     */
+    Set<PlantUmlComponent> getAllowedTargetComponentsOf(JavaClass javaClass) {
+        return allowedTargetComponents.get(getComponentOf(javaClass));
     }
 
-    private Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
-        ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (Stereotype stereotype : component.getStereotypes()) {
-            result.add(stereotype.asString());
-        }
-        return result.build();
+    boolean isContainedInAnyOf(JavaClass javaClass, Set<PlantUmlComponent> components) {
+        return !Collections.disjoint(getAssociatedComponents(javaClass), components);
     }
 
     private PlantUmlComponent getComponentOf(final JavaClass javaClass) {
@@ -90,9 +96,19 @@ class JavaClassDiagramAssociation {
     }
 
     private Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
+        String packageName = javaClass.getPackageName();
+        Set<PlantUmlComponent> result = componentsByPackage.get(packageName);
+        if (result == null) {
+            result = findComponentsOf(packageName);
+            componentsByPackage.put(packageName, result);
+        }
+        return result;
+    }
+
+    private Set<PlantUmlComponent> findComponentsOf(String packageName) {
         ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
         for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
+            if (component.contains(packageName)) {
                 result.add(component.asPlantUmlComponent());
             }
         }
@@ -109,24 +125,19 @@ class JavaClassDiagramAssociation {
 
     private static class AssociatedComponent {
         private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
+        private final PackageMatchers packageMatchers;
 
         private AssociatedComponent(PlantUmlComponent component) {
             this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
+            ImmutableSet.Builder<String> packageIdentifiers = ImmutableSet.builder();
             for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
+                packageIdentifiers.add(stereotype.asString());
             }
-            this.packageMatchers = packageMatchers.build();
+            this.packageMatchers = PackageMatchers.of(packageIdentifiers.build());
         }
 
-        private boolean contains(JavaClass javaClass) {
-            for (PackageMatcher packageMatcher : packageMatchers) {
-                if (packageMatcher.matches(javaClass.getPackageName())) {
-                    return true;
-                }
-            }
-            return false;
+        private boolean contains(String packageName) {
+            return packageMatchers.apply(packageName);
         }
 
         PlantUmlComponent asPlantUmlComponent() {
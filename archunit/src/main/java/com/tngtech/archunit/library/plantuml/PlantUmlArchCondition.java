@@ -21,6 +21,10 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.FluentIterable;
@@ -38,7 +42,7 @@ import static com.tngtech.archunit.base.Guava.toGuava;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_ORIGIN_CLASS;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_TARGET_CLASS;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesInAnyPackage;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesWhere;
 import static java.util.Collections.singleton;
 
 /**
@@ -87,6 +91,10 @@ import static java.util.Collections.singleton;
 public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     private final DescribedPredicate<Dependency> ignorePredicate;
     private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+    // NOTE: Classes of the same component share the same allowed target components, thus the condition checking
+    //       the dependencies of a class is only created once per component and not for every class
+    private final ConcurrentMap<Set<PlantUmlComponent>, ArchCondition<JavaClass>> conditionsByAllowedTargetComponents =
+            new ConcurrentHashMap<>();
 
     private PlantUmlArchCondition(
             String description,
@@ -136,15 +144,18 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
             return;
         }
 
-        String[] allAllowedTargets = FluentIterable
-                .from(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(item))
-                .append(javaClassDiagramAssociation.getTargetPackageIdentifiers(item))
-                .toArray(String.class);
-
-        ArchCondition<JavaClass> delegate = onlyHaveDependenciesInAnyPackage(allAllowedTargets)
-                .ignoreDependency(ignorePredicate);
+        Set<PlantUmlComponent> allowedTargetComponents = javaClassDiagramAssociation.getAllowedTargetComponentsOf(item);
+        getConditionAllowingOnlyDependenciesTo(allowedTargetComponents).check(item, events);
+    }
 
-        delegate.check(item, events);
+    private ArchCondition<JavaClass> getConditionAllowingOnlyDependenciesTo(Set<PlantUmlComponent> allowedTargetComponents) {
+        ArchCondition<JavaClass> result = conditionsByAllowedTargetComponents.get(allowedTargetComponents);
+        if (result == null) {
+            result = onlyHaveDependenciesWhere(new TargetInComponentsPredicate(javaClassDiagramAssociation, allowedTargetComponents))
+                    .ignoreDependency(ignorePredicate);
+            conditionsByAllowedTargetComponents.put(allowedTargetComponents, result);
+        }
+        return result;
     }
 
     private boolean allDependenciesAreIgnored(JavaClass item) {
@@ -206,6 +217,31 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
     }
 
+    private static class TargetInComponentsPredicate extends DescribedPredicate<Dependency> {
+        private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+        private final Set<PlantUmlComponent> components;
+
+        TargetInComponentsPredicate(JavaClassDiagramAssociation javaClassDiagramAssociation, Set<PlantUmlComponent> components) {
+            super("target is contained in any of the components %s", namesOf(components));
+            this.javaClassDiagramAssociation = javaClassDiagramAssociation;
+            this.components = components;
+        }
+
+        @Override
+        public boolean apply(Dependency input) {
+            return javaClassDiagramAssociation.isContainedInAnyOf(input.getTargetClass(), components);
+        }
+
+        // NOTE: PlantUmlComponent.toString() includes the dependencies, which refer to the components again
+        private static Set<String> namesOf(Set<PlantUmlComponent> components) {
+            Set<String> result = new TreeSet<>();
+            for (PlantUmlComponent component : components) {
+                result.add(component.getComponentName().asString());
+            }
+            return result;
+        }
+    }
+
     public static final class Configurations {
         private Configurations() {
         }
@@ -272,16 +308,16 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
 
         private static class NotContainedInPackagesPredicate extends DescribedPredicate<Dependency> {
-            private final List<String> packageIdentifiers;
+            private final PackageMatchers packageMatchers;
 
             NotContainedInPackagesPredicate(List<String> packageIdentifiers) {
                 super(" while ignoring dependencies outside of packages ['%s']", Joiner.on("', '").join(packageIdentifiers));
-                this.packageIdentifiers = packageIdentifiers;
+                this.packageMatchers = PackageMatchers.of(packageIdentifiers);
             }
 
             @Override
             public boolean apply(Dependency input) {
-                return !PackageMatchers.of(packageIdentifiers).apply(input.getTargetClass().getPackageName());
+                return !packageMatchers.apply(input.getTargetClass().getPackageName());
             }
         }
     }
@@ -49,15 +49,27 @@ public class ArchConfigurationTest {
 
     @Test
     public void simple_properties_explicitly_set() {
-        writeProperties(ImmutableMap.of(
-                ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true,
-                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true
-        ));
+        writeProperties(ImmutableMap.<String, Object>builder()
+                .put(ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true)
+                .put(ArchConfiguration.MAX_TRANSITIVE_RESOLUTION_DEPTH, 3)
+                .put(ArchConfiguration.MAX_NUMBER_OF_TRANSITIVELY_RESOLVED_CLASSES, 200)
+                .put(ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true)
+                .put(ArchConfiguration.ENABLE_PARALLEL_IMPORT, true)
+                .put(ArchConfiguration.ENABLE_PARALLEL_EVALUATION, true)
+                .put(ArchConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PER_COMPONENT, 7)
+                .put(ArchConfiguration.MAX_NUMBER_OF_VIOLATIONS_PER_RULE, 20)
+                .build());
 
         ArchConfiguration configuration = testConfiguration(PROPERTIES_RESOURCE_NAME);
 
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isTrue();
+        assertThat(configuration.getMaxTransitiveResolutionDepth()).isEqualTo(3);
+        assertThat(configuration.getMaxNumberOfTransitivelyResolvedClasses()).isEqualTo(200);
         assertThat(configuration.md5InClassSourcesEnabled()).isTrue();
+        assertThat(configuration.parallelImportEnabled()).isTrue();
+        assertThat(configuration.parallelEvaluationEnabled()).isTrue();
+        assertThat(configuration.getMaxNumberOfCyclesToDetectPerComponent()).isEqualTo(7);
+        assertThat(configuration.getMaxNumberOfViolationsPerRule()).isEqualTo(20);
         assertThat(configuration.getClassResolver()).isAbsent();
         assertThat(configuration.getClassResolverArguments()).isEmpty();
     }
@@ -190,7 +202,13 @@ public class ArchConfigurationTest {
 
     private void assertDefault(ArchConfiguration configuration) {
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isFalse();
+        assertThat(configuration.getMaxTransitiveResolutionDepth()).isEqualTo(0);
+        assertThat(configuration.getMaxNumberOfTransitivelyResolvedClasses()).isEqualTo(5000);
         assertThat(configuration.md5InClassSourcesEnabled()).isFalse();
+        assertThat(configuration.parallelImportEnabled()).isFalse();
+        assertThat(configuration.parallelEvaluationEnabled()).isFalse();
+        assertThat(configuration.getMaxNumberOfCyclesToDetectPerComponent()).isEqualTo(100);
+        assertThat(configuration.getMaxNumberOfViolationsPerRule()).isEqualTo(Integer.MAX_VALUE);
     }
 
     private ArchConfiguration testConfiguration(String resourceName) {
@@ -87,6 +87,20 @@ public class PackageMatcherTest {
         }
     }
 
+    @Test
+    public void results_are_reused_for_the_same_package() {
+        PackageMatcher matcher = PackageMatcher.of("some.(*).pkg.(**)");
+
+        Result first = matcher.match("some.arbitrary.pkg.more.sub").get();
+        Result second = matcher.match("some.arbitrary.pkg.more.sub").get();
+
+        assertThat(second).isSameAs(first);
+        assertThat(TO_GROUPS.apply(second)).containsExactly("arbitrary", "more.sub");
+        assertThat(matcher.match("some.other.pkg.more").get().getGroup(1)).isEqualTo("other");
+        assertThat(matcher.matches("wrong.arbitrary.pkg.more")).isFalse();
+        assertThat(matcher.matches("wrong.arbitrary.pkg.more")).isFalse();
+    }
+
     @Test
     public void should_reject_more_than_two_dots_in_a_row() {
         thrown.expect(IllegalArgumentException.class);
@@ -48,6 +48,25 @@ public class DependencyTest {
                 .contains("Interface <" + origin.getName() + "> extends interface <" + target.getName() + ">");
     }
 
+    @Test
+    public void equality_and_ordering_are_defined_by_origin_and_target() {
+        JavaClass origin = importClassWithContext(Origin.class);
+        JavaClass target = importClassWithContext(Target.class);
+        JavaClass otherTarget = importClassWithContext(DependencyClass.class);
+
+        Dependency dependency = Dependency.fromInheritance(origin, target);
+        Dependency equalDependency = Dependency.fromInheritance(origin, target);
+        Dependency otherDependency = Dependency.fromInheritance(origin, otherTarget);
+
+        assertThat(dependency).isEqualTo(equalDependency);
+        assertThat(dependency.hashCode()).isEqualTo(equalDependency.hashCode());
+        assertThat(dependency.compareTo(equalDependency)).isZero();
+        assertThat(dependency).isNotEqualTo(otherDependency);
+        assertThat(Integer.signum(dependency.compareTo(otherDependency)))
+                .isEqualTo(Integer.signum(dependency.getDescription().compareTo(otherDependency.getDescription())))
+                .isNotZero();
+    }
+
     private Dependency createDependency(JavaClass origin, JavaClass target) {
         Dependency dependency = Dependency.fromInheritance(origin, target);
         assertThat(dependency.getOriginClass()).as("origin class").isEqualTo(origin);
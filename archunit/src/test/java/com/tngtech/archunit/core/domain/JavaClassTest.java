@@ -154,6 +154,19 @@ public class JavaClassTest {
                         Object.class.getName());
     }
 
+    @Test
+    public void type_hierarchy_is_computed_only_once() {
+        JavaClasses classes = importClasses(ChildWithFieldAndMethod.class, ParentWithFieldAndMethod.class, InterfaceWithFieldAndMethod.class);
+        JavaClass child = classes.get(ChildWithFieldAndMethod.class);
+        JavaClass parent = classes.get(ParentWithFieldAndMethod.class);
+
+        assertThat(child.getAllInterfaces()).isSameAs(child.getAllInterfaces());
+        assertThat(child.getAllSuperClasses()).isSameAs(child.getAllSuperClasses());
+        assertThat(child.getAllClassesSelfIsAssignableTo()).isSameAs(child.getAllClassesSelfIsAssignableTo());
+        assertThat(parent.getAllSubClasses()).isSameAs(parent.getAllSubClasses());
+        assertThat(parent.getAllSubClasses()).containsOnly(child);
+    }
+
     @Test
     public void isAnnotatedWith_type() {
         assertThat(importClassWithContext(Parent.class).isAnnotatedWith(SomeAnnotation.class))
@@ -323,6 +336,16 @@ public class JavaClassTest {
                         .inLineNumber(7));
     }
 
+    @Test
+    public void direct_dependencies_are_computed_only_once() {
+        JavaClasses classes = importClasses(AAccessingB.class, B.class);
+        JavaClass javaClass = classes.get(AAccessingB.class);
+        JavaClass target = classes.get(B.class);
+
+        assertThat(javaClass.getDirectDependenciesFromSelf()).isSameAs(javaClass.getDirectDependenciesFromSelf());
+        assertThat(target.getDirectDependenciesToSelf()).isSameAs(target.getDirectDependenciesToSelf());
+    }
+
     @Test
     public void direct_dependencies_from_self_by_inheritance() {
         JavaClass javaClass = importClassWithContext(AExtendingSuperAImplementingInterfaceForA.class);
@@ -78,6 +78,16 @@ public class SourceTest {
         assertThat(source.getMd5sum().asBytes()).isEqualTo(expectedMd5BytesAt(url));
     }
 
+    @Test
+    @UseDataProvider("classes")
+    public void calculates_md5_from_bytes_already_read(URL url) throws Exception {
+        Source source = new Source(url.toURI(), Optional.<String>absent(), bytesAt(url));
+
+        assertThat(source.getUri()).as("source URI").isEqualTo(url.toURI());
+        assertThat(source.getMd5sum().asBytes()).isEqualTo(expectedMd5BytesAt(url));
+        assertThat(source).as("source").isEqualTo(newSource(url));
+    }
+
     @Test
     @UseDataProvider("classes")
     public void equals_hashcode_and_toString(URL url) throws Exception {
@@ -0,0 +1,43 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Set;
+
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.Marker;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.SuperclassOutsideOfScannedLocations;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.ImplementingInterfaceWithAnnotatedMethod;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.InheritingAnnotatedField;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.InheritingFromOutsideOfScannedLocations;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.InterfaceWithAnnotatedMethod;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.WithAnnotatedField;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.WithAnnotatedMethod;
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned.WithoutAnnotatedMembers;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnnotatedMemberScannerTest {
+    @Test
+    public void finds_classes_declaring_or_inheriting_annotated_members() {
+        Set<String> classNames = new AnnotatedMemberScanner(Marker.class)
+                .findClassNamesIn(Locations.ofPackage(WithAnnotatedField.class.getPackage().getName()));
+
+        assertThat(classNames).containsOnly(
+                WithAnnotatedField.class.getName(),
+                WithAnnotatedMethod.class.getName(),
+                InterfaceWithAnnotatedMethod.class.getName(),
+                ImplementingInterfaceWithAnnotatedMethod.class.getName(),
+                InheritingAnnotatedField.class.getName(),
+                InheritingFromOutsideOfScannedLocations.class.getName());
+        assertThat(classNames).doesNotContain(
+                WithoutAnnotatedMembers.class.getName(),
+                SuperclassOutsideOfScannedLocations.class.getName());
+    }
+
+    @Test
+    public void finds_nothing_for_annotations_not_present() {
+        Set<String> classNames = new AnnotatedMemberScanner(Test.class)
+                .findClassNamesIn(Locations.ofPackage(WithAnnotatedField.class.getPackage().getName()));
+
+        assertThat(classNames).isEmpty();
+    }
+}
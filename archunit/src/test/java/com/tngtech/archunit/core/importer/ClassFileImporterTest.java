@@ -210,6 +210,7 @@ import static com.tngtech.archunit.testutil.ReflectionTestUtils.constructor;
 import static com.tngtech.archunit.testutil.ReflectionTestUtils.field;
 import static com.tngtech.archunit.testutil.ReflectionTestUtils.method;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
 import static org.junit.Assume.assumeTrue;
 
 public class ClassFileImporterTest {
@@ -1308,6 +1309,17 @@ public class ClassFileImporterTest {
                 .inLineNumber(7);
     }
 
+    @Test
+    public void accesses_to_the_same_target_share_the_target() throws Exception {
+        ImportedClasses classes = classesIn("testexamples/callimport");
+
+        JavaConstructorCall objectInitCallOne = getOnlyElement(classes.get(CallsOtherMethod.class).getConstructorCallsFromSelf());
+        JavaConstructorCall objectInitCallTwo = getOnlyElement(classes.get(CallsOwnMethod.class).getConstructorCallsFromSelf());
+
+        assertThat(objectInitCallOne.getTarget().getFullName()).isEqualTo(Object.class.getName() + ".<init>()");
+        assertThat(objectInitCallOne.getTarget()).isSameAs(objectInitCallTwo.getTarget());
+    }
+
     @Test
     public void imports_constructor_calls_on_external_class() throws Exception {
         JavaClass classThatCallsOwnConstructor = classesIn("testexamples/callimport").get(CallsOwnConstructor.class);
@@ -1742,6 +1754,32 @@ public class ClassFileImporterTest {
         assertThat(clazz.getSuperClass().get().getMethods()).isEmpty();
     }
 
+    @Test
+    public void resolves_missing_dependencies_transitively_up_to_the_configured_depth() throws Exception {
+        ArchConfiguration.get().unsetClassResolver();
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        ArchConfiguration.get().setMaxTransitiveResolutionDepth(2);
+
+        JavaClass clazz = classesIn("testexamples/simpleimport").get(ClassToImportOne.class);
+
+        JavaClass returnTypeOfResolvedClass = clazz.getSuperClass().get().getMethod("toString").getReturnType();
+        assertThat(returnTypeOfResolvedClass.isEquivalentTo(String.class)).as("return type is String").isTrue();
+        assertThat(namesOf(returnTypeOfResolvedClass.getInterfaces())).contains(CharSequence.class.getName());
+    }
+
+    @Test
+    public void transitive_resolution_is_limited_by_the_configured_number_of_classes() throws Exception {
+        ArchConfiguration.get().unsetClassResolver();
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        ArchConfiguration.get().setMaxTransitiveResolutionDepth(2);
+        ArchConfiguration.get().setMaxNumberOfTransitivelyResolvedClasses(1);
+        logTest.watch(ClassFileProcessor.class, Level.DEBUG);
+
+        classesIn("testexamples/simpleimport");
+
+        logTest.assertLogMessage(Level.DEBUG, "Resolved 1 classes transitively");
+    }
+
     @Test
     public void import_is_resilient_against_broken_class_files() throws Exception {
         Class<?> expectedClass = getClass();
@@ -1785,6 +1823,114 @@ public class ClassFileImporterTest {
         assertThat(source.getMd5sum()).isEqualTo(MD5_SUM_DISABLED);
     }
 
+    @Test
+    public void parallel_import_yields_the_same_classes_as_sequential_import() {
+        JavaClasses sequential = new ClassFileImporter().withParallelImport(false).importPackagesOf(ClassFileImporter.class);
+        JavaClasses parallel = new ClassFileImporter().withParallelImport(true).importPackagesOf(ClassFileImporter.class);
+
+        assertSameClasses(parallel, sequential);
+    }
+
+    @Test
+    public void imports_classes_from_archives_via_import_cache() throws Exception {
+        JavaClasses withoutCache = new ClassFileImporter().importJar(jarFileOf(Rule.class));
+
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        JavaClasses recorded = new ClassFileImporter().importJar(jarFileOf(Rule.class));
+
+        assertThat(cacheDirectory.listFiles()).hasSize(1);
+        assertSameClasses(recorded, withoutCache);
+
+        JavaClasses replayed = new ClassFileImporter().importJar(jarFileOf(Rule.class));
+
+        assertSameClasses(replayed, withoutCache);
+    }
+
+    @Test
+    public void incremental_import_reflects_added_and_deleted_class_files() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+
+        IncrementalImport initialImport = new ClassFileImporter()
+                .importLocationsIncrementally(singletonList(Location.of(folder.toPath())));
+
+        assertThatClasses(initialImport.getClasses()).matchExactly(ClassToImportOne.class);
+
+        copyClassFile(ClassToImportTwo.class, folder);
+        IncrementalImport updatedImport = initialImport.update(Location.of(classFileIn(folder, ClassToImportTwo.class)));
+
+        assertThatClasses(updatedImport.getClasses()).matchInAnyOrder(ClassToImportOne.class, ClassToImportTwo.class);
+        assertThatClasses(initialImport.getClasses()).matchExactly(ClassToImportOne.class);
+
+        Files.delete(classFileIn(folder, ClassToImportOne.class));
+        updatedImport = updatedImport.update(Location.of(classFileIn(folder, ClassToImportOne.class)));
+
+        assertThatClasses(updatedImport.getClasses()).matchExactly(ClassToImportTwo.class);
+    }
+
+    @Test
+    public void imports_classes_via_snapshot_shared_between_imports() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        List<Location> locations = singletonList(Location.of(folder.toPath()));
+        File snapshotDirectory = temporaryFolder.newFolder();
+
+        JavaClasses recorded = new ClassFileImporter().importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        assertThat(snapshotDirectory.listFiles()).hasSize(1);
+        assertThatClasses(recorded).matchInAnyOrder(ClassToImportOne.class, ClassToImportTwo.class);
+
+        JavaClasses replayed = new ClassFileImporter().importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        assertSameClasses(replayed, recorded);
+
+        Files.delete(classFileIn(folder, ClassToImportTwo.class));
+        JavaClasses reimported = new ClassFileImporter().importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        assertThatClasses(reimported).matchExactly(ClassToImportOne.class);
+    }
+
+    @Test
+    public void snapshot_is_discarded_if_a_class_file_is_added_to_an_imported_directory() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        List<Location> locations = singletonList(Location.of(folder.toPath()));
+        File snapshotDirectory = temporaryFolder.newFolder();
+        new ClassFileImporter().importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        copyClassFile(ClassToImportTwo.class, folder);
+        // the resolution of modification times might be too coarse to reveal the change within this test
+        assertThat(folder.setLastModified(folder.lastModified() + 10000)).isTrue();
+        JavaClasses reimported = new ClassFileImporter().importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        assertThatClasses(reimported).matchInAnyOrder(ClassToImportOne.class, ClassToImportTwo.class);
+    }
+
+    @Test
+    public void snapshot_is_not_used_for_import_options_with_state() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        List<Location> locations = singletonList(Location.of(folder.toPath()));
+        File snapshotDirectory = temporaryFolder.newFolder();
+
+        final String excludedFileName = classFileIn(folder, ClassToImportTwo.class).getFileName().toString();
+        ImportOption optionWithState = new ImportOption() {
+            @Override
+            public boolean includes(Location location) {
+                return !location.contains(excludedFileName);
+            }
+        };
+
+        JavaClasses classes = new ClassFileImporter().withImportOption(optionWithState)
+                .importLocationsUsingSnapshot(locations, snapshotDirectory.toPath());
+
+        assertThatClasses(classes).matchExactly(ClassToImportOne.class);
+        assertThat(snapshotDirectory.listFiles()).isEmpty();
+    }
+
     @Test
     public void imports_class_objects() {
         JavaClasses classes = new ClassFileImporter().importClasses(ClassToImportOne.class, ClassToImportTwo.class);
@@ -1857,6 +2003,28 @@ public class ClassFileImporterTest {
         assertThat(classes).isEmpty();
     }
 
+    private void assertSameClasses(JavaClasses actualClasses, JavaClasses expectedClasses) {
+        assertThat(namesOf(actualClasses)).isEqualTo(namesOf(expectedClasses));
+        for (JavaClass expected : expectedClasses) {
+            JavaClass actual = actualClasses.get(expected.getName());
+            assertThat(actual.getModifiers()).isEqualTo(expected.getModifiers());
+            assertThat(actual.getAnnotations()).hasSameSizeAs(expected.getAnnotations());
+            assertThat(namesOf(actual.getMembers())).isEqualTo(namesOf(expected.getMembers()));
+            assertThat(descriptionsOf(actual.getDirectDependenciesFromSelf()))
+                    .isEqualTo(descriptionsOf(expected.getDirectDependenciesFromSelf()));
+            assertThat(descriptionsOf(actual.getDirectDependenciesToSelf()))
+                    .isEqualTo(descriptionsOf(expected.getDirectDependenciesToSelf()));
+        }
+    }
+
+    private Set<String> descriptionsOf(Set<Dependency> dependencies) {
+        Set<String> result = new HashSet<>();
+        for (Dependency dependency : dependencies) {
+            result.add(dependency.getDescription());
+        }
+        return result;
+    }
+
     private Set<Dependency> withoutJavaLangTargets(Set<Dependency> dependencies) {
         Set<Dependency> result = new HashSet<>();
         for (Dependency dependency : dependencies) {
@@ -1868,7 +2036,11 @@ public class ClassFileImporterTest {
     }
 
     private void copyClassFile(Class<?> clazz, File targetFolder) throws IOException, URISyntaxException {
-        Files.copy(Paths.get(urlOf(clazz).toURI()), new File(targetFolder, clazz.getSimpleName() + ".class").toPath());
+        Files.copy(Paths.get(urlOf(clazz).toURI()), classFileIn(targetFolder, clazz));
+    }
+
+    private Path classFileIn(File folder, Class<?> clazz) {
+        return new File(folder, clazz.getSimpleName() + ".class").toPath();
     }
 
     static JarFile jarFileOf(Class<?> clazzInJar) throws IOException {
@@ -4,13 +4,16 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.jar.JarFile;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
@@ -132,6 +135,33 @@ public class ClassFileSourceTest {
         checkAllElementsCanBeRead(classFileSource);
     }
 
+    @Test
+    public void reads_bytes_of_class_files_in_JAR() throws IOException {
+        String entry = "/" + getClass().getName().replace('.', '/') + ".class";
+        JarFile jarFile = new TestJarFile().withEntry(entry).create();
+
+        ClassFileSource source = Location.of(jarFile).asClassFileSource(new ImportOptions());
+
+        assertThat(getOnlyElement(source).readBytes()).isEqualTo(bytesOfClassFile());
+    }
+
+    @Test
+    public void reads_bytes_of_class_files_from_file_path() throws IOException, URISyntaxException {
+        File dir = tempDir.newFolder();
+        Files.copy(Paths.get(getClass().getResource(getClass().getSimpleName() + ".class").toURI()),
+                dir.toPath().resolve(getClass().getSimpleName() + ".class"));
+
+        ClassFileSource source = Location.of(dir.toPath()).asClassFileSource(new ImportOptions());
+
+        assertThat(getOnlyElement(source).readBytes()).isEqualTo(bytesOfClassFile());
+    }
+
+    private byte[] bytesOfClassFile() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+
     @SuppressWarnings("EmptyTryBlock")
     private void checkAllElementsCanBeRead(ClassFileSource classFileSource) {
         for (ClassFileLocation location : classFileSource) {
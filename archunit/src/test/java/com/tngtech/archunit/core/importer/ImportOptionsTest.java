@@ -121,7 +121,35 @@ public class ImportOptionsTest {
                 .isFalse();
     }
 
+    @Test
+    public void identifies_stateless_options() {
+        ImportOptions options = new ImportOptions().with(new DontIncludeJars()).with(DONT_INCLUDE_TESTS);
+
+        assertThat(options.getStatelessOptionIdentifiers().get()).containsOnly(
+                DontIncludeJars.class.getName(), ImportOption.Predefined.class.getName() + ".DONT_INCLUDE_TESTS");
+    }
+
+    @Test
+    public void does_not_identify_options_with_state() {
+        ImportOptions options = new ImportOptions().with(new DontIncludeJars()).with(new OptionWithState("irrelevant"));
+
+        assertThat(options.getStatelessOptionIdentifiers().isPresent()).isFalse();
+    }
+
     private static Location locationOf(Class<?> clazz) {
         return getOnlyElement(Locations.ofClass(clazz));
     }
-}
\ No newline at end of file
+
+    private static class OptionWithState implements ImportOption {
+        private final String pattern;
+
+        OptionWithState(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean includes(Location location) {
+            return location.contains(pattern);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.tngtech.archunit.core.importer;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportSymbolsTest {
+    private final ImportSymbols symbols = new ImportSymbols();
+
+    @Test
+    public void equal_targets_are_interned() {
+        TargetInfo first = symbols.methodTarget("java/lang/String", "valueOf", "(Ljava/lang/Object;)Ljava/lang/String;");
+        TargetInfo second = symbols.methodTarget(new String("java/lang/String"), "valueOf", "(Ljava/lang/Object;)Ljava/lang/String;");
+
+        assertThat(second).isSameAs(first);
+        assertThat(symbols.numberOfDistinctTargets()).isEqualTo(1);
+    }
+
+    @Test
+    public void targets_of_different_kinds_are_not_mixed_up() {
+        TargetInfo field = symbols.fieldTarget("some/Owner", "name", "I");
+        TargetInfo method = symbols.methodTarget("some/Owner", "name", "I");
+
+        assertThat(method).isNotSameAs(field);
+        assertThat(method).isInstanceOf(RawAccessRecord.MethodTargetInfo.class);
+        assertThat(symbols.numberOfDistinctTargets()).isEqualTo(2);
+    }
+
+    @Test
+    public void names_of_code_units_are_interned() {
+        CodeUnit first = symbols.intern(new CodeUnit("method", ImmutableList.of(new String("java.lang.String")), "some.Owner"));
+        CodeUnit other = symbols.intern(new CodeUnit("other", ImmutableList.of(new String("java.lang.String")), "some.Owner"));
+        CodeUnit equalToFirst = symbols.intern(new CodeUnit("method", ImmutableList.of("java.lang.String"), new String("some.Owner")));
+
+        assertThat(equalToFirst).isSameAs(first);
+        assertThat(other.getParameters().get(0)).isSameAs(first.getParameters().get(0));
+        assertThat(other.getDeclaringClassName()).isSameAs(first.getDeclaringClassName());
+    }
+}
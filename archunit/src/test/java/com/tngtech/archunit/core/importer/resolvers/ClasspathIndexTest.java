@@ -0,0 +1,45 @@
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import com.tngtech.archunit.base.Optional;
+import org.junit.Test;
+
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+
+public class ClasspathIndexTest {
+    @Test
+    public void finds_uri_of_class_within_jar_on_classpath() throws URISyntaxException {
+        Optional<URI> uri = ClasspathIndex.ofCurrentClasspath().tryGetUriOf(resourceNameOf(Test.class));
+
+        assertThat(uri).contains(uriOf(Test.class));
+    }
+
+    @Test
+    public void finds_uri_of_class_within_directory_on_classpath() throws URISyntaxException {
+        Optional<URI> uri = ClasspathIndex.ofCurrentClasspath().tryGetUriOf(resourceNameOf(getClass()));
+
+        assertThat(uri).contains(uriOf(getClass()));
+    }
+
+    @Test
+    public void is_resilient_if_class_is_not_on_classpath() {
+        Optional<URI> uri = ClasspathIndex.ofCurrentClasspath().tryGetUriOf("sooo/Wrong.class");
+
+        assertThat(uri).isAbsent();
+    }
+
+    @Test
+    public void index_is_only_created_once_for_the_same_classpath() {
+        assertThat(ClasspathIndex.ofCurrentClasspath()).isSameAs(ClasspathIndex.ofCurrentClasspath());
+    }
+
+    private String resourceNameOf(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private URI uriOf(Class<?> clazz) throws URISyntaxException {
+        return getClass().getResource("/" + resourceNameOf(clazz)).toURI();
+    }
+}
@@ -0,0 +1,9 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers;
+
+import java.lang.annotation.Retention;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+public @interface Marker {
+}
@@ -0,0 +1,6 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers;
+
+public class SuperclassOutsideOfScannedLocations {
+    @Marker
+    Object field;
+}
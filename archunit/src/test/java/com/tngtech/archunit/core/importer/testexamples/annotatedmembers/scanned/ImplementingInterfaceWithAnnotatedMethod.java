@@ -0,0 +1,7 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+public class ImplementingInterfaceWithAnnotatedMethod implements InterfaceWithAnnotatedMethod {
+    @Override
+    public void method() {
+    }
+}
@@ -0,0 +1,4 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+public class InheritingAnnotatedField extends WithAnnotatedField {
+}
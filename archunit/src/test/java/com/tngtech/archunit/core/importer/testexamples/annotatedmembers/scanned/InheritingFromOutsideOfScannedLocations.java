@@ -0,0 +1,6 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.SuperclassOutsideOfScannedLocations;
+
+public class InheritingFromOutsideOfScannedLocations extends SuperclassOutsideOfScannedLocations {
+}
@@ -0,0 +1,8 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.Marker;
+
+public interface InterfaceWithAnnotatedMethod {
+    @Marker
+    void method();
+}
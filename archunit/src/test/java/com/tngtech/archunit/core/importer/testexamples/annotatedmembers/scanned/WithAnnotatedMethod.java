@@ -0,0 +1,9 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.Marker;
+
+public class WithAnnotatedMethod {
+    @Marker
+    void method() {
+    }
+}
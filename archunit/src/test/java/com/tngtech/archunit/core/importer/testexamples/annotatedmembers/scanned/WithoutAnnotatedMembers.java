@@ -0,0 +1,12 @@
+package com.tngtech.archunit.core.importer.testexamples.annotatedmembers.scanned;
+
+import com.tngtech.archunit.core.importer.testexamples.annotatedmembers.Marker;
+
+@Marker
+public class WithoutAnnotatedMembers {
+    Object field;
+
+    @Deprecated
+    void method() {
+    }
+}
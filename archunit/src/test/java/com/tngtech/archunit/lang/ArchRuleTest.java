@@ -2,6 +2,9 @@ package com.tngtech.archunit.lang;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
@@ -10,11 +13,13 @@ import java.util.TreeSet;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -36,15 +41,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule().resolveAdditionalDependenciesFromClassPath(true);
 
     @Before
     public void setUp() {
         ignoreFile().delete();
+        IgnorePatterns.reset();
     }
 
     @After
     public void tearDown() {
         ignoreFile().delete();
+        IgnorePatterns.reset();
     }
 
     @Test
@@ -83,6 +92,27 @@ public class ArchRuleTest {
                 .check(importClassesWithContext(EvaluationResultTest.class));
     }
 
+    @Test
+    public void ignore_file_is_only_read_once() throws IOException {
+        ArchRule rule = all(classes()).should(conditionThatReportsErrors("first one", "second two"));
+        writeIgnoreFileWithPatterns(".* one");
+        expectViolationOnlyOf(rule, "second two", "first one");
+
+        writeIgnoreFileWithPatterns(".* one", ".* two");
+        expectViolationOnlyOf(rule, "second two", "first one");
+
+        IgnorePatterns.reset();
+        rule.check(importClassesWithContext(EvaluationResultTest.class));
+    }
+
+    @Test
+    public void ignored_patterns_match_messages_spanning_multiple_lines() throws IOException {
+        writeIgnoreFileWithPatterns("first line second line");
+
+        all(classes()).should(conditionThatReportsErrors("first line\nsecond line", "first line\r\nsecond line"))
+                .check(importClassesWithContext(EvaluationResultTest.class));
+    }
+
     @Test
     public void ignored_pattern_with_comment() throws IOException {
         writeIgnoreFileWithPatterns("# comment1", "#comment2", "regular_reg_exp");
@@ -162,6 +192,136 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void evaluation_stops_checking_objects_once_the_max_number_of_violations_is_reached() {
+        ViolatedConditionRecordingCheckedObjects condition = new ViolatedConditionRecordingCheckedObjects();
+
+        EvaluationResult result = all(strings()).should(condition).limitViolationsTo(2)
+                .evaluate(importClasses(String.class, Integer.class, Long.class, Double.class));
+
+        assertThat(condition.checkedObjects).containsExactly(Double.class.getName(), Integer.class.getName());
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+        assertThat(result.getFailureReport().toString()).contains("evaluation was stopped");
+    }
+
+    @Test
+    public void evaluation_stops_checking_objects_once_the_globally_configured_max_number_of_violations_is_reached() {
+        ArchConfiguration.get().setMaxNumberOfViolationsPerRule(1);
+        ViolatedConditionRecordingCheckedObjects condition = new ViolatedConditionRecordingCheckedObjects();
+
+        EvaluationResult result = all(strings()).should(condition)
+                .evaluate(importClasses(String.class, Integer.class, Long.class, Double.class));
+
+        assertThat(condition.checkedObjects).containsExactly(Double.class.getName());
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void evaluation_checks_all_objects_if_the_condition_might_aggregate_them_on_finish() {
+        ViolatedConditionRecordingCheckedObjects violatedCondition = new ViolatedConditionRecordingCheckedObjects();
+        ConditionCountingCheckedObjectsOnFinish countingCondition = new ConditionCountingCheckedObjectsOnFinish();
+
+        FailureReport report = all(strings()).should(violatedCondition.and(countingCondition)).limitViolationsTo(1)
+                .evaluate(importClasses(String.class, Integer.class, Long.class, Double.class)).getFailureReport();
+
+        assertThat(violatedCondition.checkedObjects).hasSize(4);
+        assertThat(countingCondition.numberOfCheckedObjects).isEqualTo(4);
+        assertThat(report.getDetails()).hasSize(1);
+        assertThat(report.getNumberOfUnreportedViolations()).isEqualTo(4);
+        assertThat(report.toString()).contains("4 further violation(s) not reported").doesNotContain("evaluation was stopped");
+    }
+
+    @Test
+    public void violations_exceeding_the_max_number_of_violations_are_counted_as_unreported() {
+        ArchCondition<String> violatedOnFinish = new ArchCondition<String>("be violated on finish") {
+            @Override
+            public void check(String item, ConditionEvents events) {
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                for (int i = 0; i < 5; i++) {
+                    events.add(SimpleConditionEvent.violated("irrelevant", "violation " + i));
+                }
+            }
+        };
+
+        FailureReport report = all(strings()).should(violatedOnFinish).limitViolationsTo(2)
+                .evaluate(importClasses(String.class, Integer.class)).getFailureReport();
+
+        assertThat(report.getDetails()).containsExactly("violation 0", "violation 1");
+        assertThat(report.getNumberOfUnreportedViolations()).isEqualTo(3);
+        assertThat(report.toString()).contains("3 further violation(s) not reported").doesNotContain("evaluation was stopped");
+    }
+
+    @Test
+    public void ignored_violations_do_not_count_towards_the_max_number_of_violations() throws IOException {
+        writeIgnoreFileWithPatterns(".*Double is violated");
+        ViolatedConditionRecordingCheckedObjects condition = new ViolatedConditionRecordingCheckedObjects();
+
+        EvaluationResult result = all(strings()).should(condition).limitViolationsTo(1)
+                .evaluate(importClasses(String.class, Integer.class, Long.class, Double.class));
+
+        assertThat(condition.checkedObjects).containsExactly(Double.class.getName(), Integer.class.getName());
+        assertThat(result.getFailureReport().getDetails()).containsExactly(Integer.class.getName() + " is violated");
+    }
+
+    @Test
+    public void rule_passes_if_all_violations_are_ignored_even_if_they_exceed_the_max_number_of_violations() throws IOException {
+        writeIgnoreFileWithPatterns(".*");
+
+        all(classes()).should(ALWAYS_BE_VIOLATED).limitViolationsTo(1)
+                .check(importClasses(String.class, Integer.class));
+    }
+
+    @Test
+    public void parallel_evaluation_reports_the_same_violations_as_sequential_evaluation() {
+        JavaClasses classes = importClasses(String.class, Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class);
+        ArchRule rule = ArchRuleDefinition.classes().should().haveSimpleNameStartingWith("L").limitViolationsTo(4);
+
+        List<String> sequentialViolations = violationsOf(rule.evaluate(classes));
+        ArchConfiguration.get().setParallelEvaluationEnabled(true);
+        List<String> parallelViolations = violationsOf(rule.evaluate(classes));
+
+        assertThat(parallelViolations).hasSize(4).isEqualTo(sequentialViolations);
+    }
+
+    @Test
+    public void parallel_evaluation_only_checks_conditions_supporting_concurrent_checks_in_parallel() {
+        ArchConfiguration.get().setParallelEvaluationEnabled(true);
+        ThreadRecordingCondition sequentialCondition = new ThreadRecordingCondition(false);
+        ThreadRecordingCondition concurrentCondition = new ThreadRecordingCondition(true);
+
+        all(strings()).should(sequentialCondition).evaluate(importClasses(String.class, Integer.class));
+        all(strings()).should(concurrentCondition).evaluate(importClasses(String.class, Integer.class));
+
+        assertThat(sequentialCondition.threadNames).containsOnly(Thread.currentThread().getName());
+        assertThat(concurrentCondition.threadNames).hasSize(2);
+        for (String threadName : concurrentCondition.threadNames) {
+            assertThat(threadName).startsWith("archunit-evaluation-");
+        }
+    }
+
+    private void expectViolationOnlyOf(ArchRule rule, String reported, String ignored) {
+        try {
+            rule.check(importClassesWithContext(EvaluationResultTest.class));
+            throw new IllegalStateException("Rule should have been violated");
+        } catch (AssertionError expected) {
+            assertThat(getActualMessageLines(expected.getMessage())).contains(reported).doesNotContain(ignored);
+        }
+    }
+
+    private List<String> violationsOf(EvaluationResult result) {
+        final List<String> violations = new ArrayList<>();
+        result.handleViolations(new ViolationHandler<Object>() {
+            @Override
+            public void handle(Collection<Object> violatingObjects, String message) {
+                violations.add(message);
+            }
+        });
+        return violations;
+    }
+
     private ClassesTransformer<String> strings() {
         return new AbstractClassesTransformer<String>("strings") {
             @Override
@@ -190,6 +350,12 @@ public class ArchRuleTest {
         thrown.expectMessage(containingOnlyLinesWith(messages));
     }
 
+    private static List<String> getActualMessageLines(String message) {
+        List<String> result = newArrayList(Splitter.on('\n').split(message));
+        result.remove(0);
+        return result;
+    }
+
     private TypeSafeMatcher<String> containingOnlyLinesWith(final String[] messages) {
         return new TypeSafeMatcher<String>() {
             @Override
@@ -206,12 +372,6 @@ public class ArchRuleTest {
                 return actualMessageLines.isEmpty();
             }
 
-            private List<String> getActualMessageLines(String item) {
-                List<String> result = newArrayList(Splitter.on('\n').split(item));
-                result.remove(0);
-                return result;
-            }
-
             private void removeFirstActualMessageContaining(String message, List<String> actualMessageLines) {
                 for (Iterator<String> iterator = actualMessageLines.iterator(); iterator.hasNext(); ) {
                     if (iterator.next().contains(message)) {
@@ -253,6 +413,63 @@ public class ArchRuleTest {
                 }
             };
 
+    private static class ViolatedConditionRecordingCheckedObjects extends ArchCondition<String> {
+        private final List<String> checkedObjects = new ArrayList<>();
+
+        ViolatedConditionRecordingCheckedObjects() {
+            super("be violated");
+        }
+
+        @Override
+        public void check(String item, ConditionEvents events) {
+            checkedObjects.add(item);
+            events.add(SimpleConditionEvent.violated(item, item + " is violated"));
+        }
+
+        @Override
+        public boolean supportsConcurrentChecks() {
+            return true;
+        }
+    }
+
+    private static class ConditionCountingCheckedObjectsOnFinish extends ArchCondition<String> {
+        private int numberOfCheckedObjects;
+
+        ConditionCountingCheckedObjectsOnFinish() {
+            super("be counted");
+        }
+
+        @Override
+        public void check(String item, ConditionEvents events) {
+            numberOfCheckedObjects++;
+        }
+
+        @Override
+        public void finish(ConditionEvents events) {
+            events.add(SimpleConditionEvent.violated("irrelevant", "checked " + numberOfCheckedObjects + " objects"));
+        }
+    }
+
+    private static class ThreadRecordingCondition extends ArchCondition<String> {
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<String>());
+        private final boolean supportsConcurrentChecks;
+
+        ThreadRecordingCondition(boolean supportsConcurrentChecks) {
+            super("record threads");
+            this.supportsConcurrentChecks = supportsConcurrentChecks;
+        }
+
+        @Override
+        public void check(String item, ConditionEvents events) {
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public boolean supportsConcurrentChecks() {
+            return supportsConcurrentChecks;
+        }
+    }
+
     private static class ClassAccessingStringTwoTimes {
         void execute() {
             "foo".length();
@@ -33,6 +33,45 @@ public class ConditionEventsTest {
         assertThat(events.isEmpty()).as("events are empty").isEqualTo(expectedEmpty);
     }
 
+    @Test
+    public void events_retaining_only_violations_count_but_do_not_retain_allowed_events() {
+        ConditionEvents events = ConditionEvents.retainingOnlyViolations(Integer.MAX_VALUE);
+
+        events.add(SimpleConditionEvent.satisfied("irrelevant", "allowed"));
+
+        assertThat(events.isEmpty()).as("events are empty").isFalse();
+        assertThat(events.containViolation()).as("events contain violation").isFalse();
+        assertThat(events.getAllowed()).isEmpty();
+
+        events.add(SimpleConditionEvent.violated("irrelevant", "violated"));
+
+        assertThat(events.containViolation()).as("events contain violation").isTrue();
+        assertThat(events.getViolating()).hasSize(1);
+    }
+
+    @Test
+    public void events_retaining_only_violations_retain_at_most_the_configured_number_of_violations() {
+        ConditionEvents events = ConditionEvents.retainingOnlyViolations(2);
+
+        for (int i = 0; i < 5; i++) {
+            events.add(SimpleConditionEvent.violated("irrelevant", "violation " + i));
+        }
+
+        assertThat(events.containViolation()).as("events contain violation").isTrue();
+        assertThat(events.getNumberOfViolations()).isEqualTo(5);
+        assertThat(events.getViolating()).extracting("message").containsExactly("violation 0", "violation 1");
+    }
+
+    @Test
+    public void events_retaining_no_violations_still_contain_violation() {
+        ConditionEvents events = ConditionEvents.retainingOnlyViolations(0);
+
+        events.add(SimpleConditionEvent.violated("irrelevant", "violated"));
+
+        assertThat(events.containViolation()).as("events contain violation").isTrue();
+        assertThat(events.getViolating()).isEmpty();
+    }
+
     @Test
     public void handleViolations_reports_only_violations_referring_to_the_correct_type() {
         ConditionEvents events = events(
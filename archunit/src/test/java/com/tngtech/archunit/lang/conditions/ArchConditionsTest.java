@@ -125,6 +125,24 @@ public class ArchConditionsTest {
         assertThat(onlyHaveDependentsWhere(customDescription).getDescription()).isEqualTo("only have dependents where custom");
     }
 
+    @Test
+    public void conditions_only_depending_on_the_checked_object_support_concurrent_checks() {
+        assertThat(ArchConditions.haveSimpleName("any").supportsConcurrentChecks()).isTrue();
+        assertThat(onlyHaveDependentsWhere(DescribedPredicate.<Dependency>alwaysTrue()).supportsConcurrentChecks()).isTrue();
+        assertThat(never(accessClassesThatResideIn("..any..")).supportsConcurrentChecks()).isTrue();
+        assertThat(ArchConditions.beInterfaces().and(ArchConditions.haveSimpleName("any")).as("custom")
+                .supportsConcurrentChecks()).isTrue();
+    }
+
+    @Test
+    public void conditions_depending_on_other_objects_do_not_support_concurrent_checks() {
+        ArchCondition<JavaClass> collectingCondition = ArchConditions.containNumberOfElements(DescribedPredicate.<Integer>alwaysTrue());
+
+        assertThat(collectingCondition.supportsConcurrentChecks()).isFalse();
+        assertThat(ArchConditions.beInterfaces().or(collectingCondition).supportsConcurrentChecks()).isFalse();
+        assertThat(conditionWithDescription("custom").supportsConcurrentChecks()).isFalse();
+    }
+
     private ArchCondition<Object> conditionWithDescription(String description) {
         return new ArchCondition<Object>(description) {
             @Override
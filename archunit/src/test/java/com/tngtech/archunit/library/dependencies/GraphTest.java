@@ -1,6 +1,9 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -96,6 +99,105 @@ public class GraphTest {
         assertThat(graph.getCycles()).hasSize(5);
     }
 
+    @Test
+    public void self_loop_is_detected_as_cycle() {
+        Graph<String, String> graph = new Graph<>();
+
+        String node = randomNode();
+        graph.add(node, Collections.<Edge<String, String>>singleton(new SimpleEdge(node, node)));
+
+        Cycle<String, String> cycle = getOnlyElement(graph.getCycles());
+        assertThat(cycle.getEdges()).hasSize(1);
+        assertEdgeExists(cycle, node, node);
+    }
+
+    @Test
+    public void cycles_are_detected_after_further_edges_are_added() {
+        Graph<String, String> graph = new Graph<>();
+
+        Cycle<String, String> first = randomCycle(3);
+        addCycles(graph, first);
+        assertThat(graph.getCycles()).containsOnly(first);
+
+        Cycle<String, String> second = randomCycle(2);
+        addCycles(graph, second);
+        assertThat(graph.getCycles()).containsOnly(first, second);
+    }
+
+    @Test
+    public void number_of_cycles_is_limited_per_strongly_connected_component() {
+        Graph<String, String> graph = new Graph<>(4);
+
+        List<String> denseComponent = addCompleteGraph(graph, 6);
+        Cycle<String, String> separateCycle = randomCycle(3);
+        addCycles(graph, separateCycle);
+        graph.add(separateCycle.getEdges().get(0).getFrom(), singleEdge(denseComponent.get(0), separateCycle.getEdges().get(0).getFrom()));
+
+        Set<Cycle<String, String>> cycles = graph.getCycles();
+
+        assertThat(cycles).hasSize(5).contains(separateCycle);
+    }
+
+    @Test
+    public void graph_reports_whether_cycles_have_been_omitted() {
+        Graph<String, String> graphWithOmittedCycles = new Graph<>(4);
+        addCompleteGraph(graphWithOmittedCycles, 4);
+        Graph<String, String> graphWithMaxCyclesPerComponent = new Graph<>(1);
+        addCycles(graphWithMaxCyclesPerComponent, randomCycle(3), randomCycle(2));
+
+        assertThat(graphWithOmittedCycles.isAnyCycleOmitted()).isTrue();
+        assertThat(graphWithMaxCyclesPerComponent.getCycles()).hasSize(2);
+        assertThat(graphWithMaxCyclesPerComponent.isAnyCycleOmitted()).isFalse();
+    }
+
+    @Test
+    public void the_same_cycles_are_detected_for_nodes_added_in_the_same_order() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            nodes.add(randomNode());
+        }
+
+        Set<Cycle<String, String>> cycles = addCompleteGraph(new Graph<String, String>(10), nodes).getCycles();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(addCompleteGraph(new Graph<String, String>(10), nodes).getCycles()).containsExactlyElementsOf(cycles);
+        }
+    }
+
+    @Test
+    public void cycles_of_large_densely_connected_graph_are_detected_quickly() {
+        Graph<String, String> graph = new Graph<>(100);
+
+        addCompleteGraph(graph, 300);
+
+        assertThat(graph.getCycles()).hasSize(100);
+    }
+
+    private List<String> addCompleteGraph(Graph<String, String> graph, int numberOfNodes) {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(randomNode());
+        }
+        addCompleteGraph(graph, nodes);
+        return nodes;
+    }
+
+    private Graph<String, String> addCompleteGraph(Graph<String, String> graph, List<String> nodes) {
+        for (String node : nodes) {
+            graph.add(node, Collections.<Edge<String, String>>emptySet());
+        }
+        for (String from : nodes) {
+            Set<Edge<String, String>> edges = new HashSet<>();
+            for (String to : nodes) {
+                if (!from.equals(to)) {
+                    edges.add(new SimpleEdge(from, to));
+                }
+            }
+            graph.add(from, edges);
+        }
+        return graph;
+    }
+
     private Cycle<String, String> randomCycle(int numberOfNodes) {
         checkArgument(numberOfNodes > 1, "A cycle can't be formed by less than 2 nodes");
         Path<String, String> path = new Path<>(singleEdgeList(randomNode(), randomNode()));
@@ -3,10 +3,13 @@ package com.tngtech.archunit.library.plantuml;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.HashSet;
+import java.util.Set;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.library.diagramtests.confusingpackagenames.foopackage.barpackage.ClassInFooAndBarPackage;
 import com.tngtech.archunit.library.diagramtests.simpledependency.origin.SomeOriginClass;
+import com.tngtech.archunit.library.diagramtests.simpledependency.target.SomeTargetClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -24,37 +27,60 @@ public class JavaClassDiagramAssociationTest {
     public final ExpectedException thrown = ExpectedException.none();
 
     @Test
-    public void get_package_identifier_associated_with_class() {
-        String expectedPackageIdentifier = SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", "..");
+    public void get_component_associated_with_class() {
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
-                .component("A").withStereoTypes(expectedPackageIdentifier)
+                .component("A").withStereoTypes(SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", ".."))
                 .component("B").withStereoTypes("..noclasshere")
                 .write());
 
         JavaClass clazz = importClassWithContext(SomeOriginClass.class);
 
-        assertThat(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(clazz))
-                .as("package identifiers of " + clazz.getName())
-                .containsOnly(expectedPackageIdentifier);
+        assertThat(namesOf(javaClassDiagramAssociation.getAllowedTargetComponentsOf(clazz)))
+                .as("allowed target components of " + clazz.getName())
+                .containsOnly("A");
     }
 
     @Test
-    public void get_target_package_identifiers_of_class() {
-        String expectedTarget1 = "..target1";
-        String expectedTarget2 = "..target2";
+    public void get_allowed_target_components_of_class() {
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
                 .component("A").withStereoTypes(SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", ".."))
-                .component("B").withStereoTypes(expectedTarget1)
-                .component("C").withStereoTypes(expectedTarget2)
+                .component("B").withStereoTypes("..target1")
+                .component("C").withStereoTypes("..target2")
+                .component("D").withStereoTypes("..noclasshere")
                 .dependencyFrom("[A]").to("[B]")
                 .dependencyFrom("[A]").to("[C]")
                 .write());
 
         JavaClass clazz = importClassWithContext(SomeOriginClass.class);
 
-        assertThat(javaClassDiagramAssociation.getTargetPackageIdentifiers(clazz))
-                .as("package identifiers of " + clazz.getName())
-                .containsOnly(expectedTarget1, expectedTarget2);
+        assertThat(namesOf(javaClassDiagramAssociation.getAllowedTargetComponentsOf(clazz)))
+                .as("allowed target components of " + clazz.getName())
+                .containsOnly("A", "B", "C");
+    }
+
+    @Test
+    public void checks_classes_against_allowed_target_components_of_class() {
+        JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
+                .component("A").withStereoTypes("..origin")
+                .component("B").withStereoTypes("..target")
+                .component("C").withStereoTypes("..noclasshere")
+                .dependencyFrom("[A]").to("[B]")
+                .write());
+
+        JavaClass origin = importClassWithContext(SomeOriginClass.class);
+        JavaClass target = importClassWithContext(SomeTargetClass.class);
+
+        Set<PlantUmlComponent> allowedFromOrigin = javaClassDiagramAssociation.getAllowedTargetComponentsOf(origin);
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(origin, allowedFromOrigin))
+                .as("origin is allowed target of origin").isTrue();
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(target, allowedFromOrigin))
+                .as("target is allowed target of origin").isTrue();
+
+        Set<PlantUmlComponent> allowedFromTarget = javaClassDiagramAssociation.getAllowedTargetComponentsOf(target);
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(origin, allowedFromTarget))
+                .as("origin is allowed target of target").isFalse();
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(importClassWithContext(Object.class), allowedFromOrigin))
+                .as("class outside of any component is allowed target of origin").isFalse();
     }
 
     @Test
@@ -67,7 +93,7 @@ public class JavaClassDiagramAssociationTest {
         thrown.expect(IllegalStateException.class);
         thrown.expectMessage(String.format("Class %s is not contained in any component", Object.class.getName()));
 
-        javaClassDiagramAssociation.getTargetPackageIdentifiers(classNotContained);
+        javaClassDiagramAssociation.getAllowedTargetComponentsOf(classNotContained);
     }
 
     @Test
@@ -95,7 +121,7 @@ public class JavaClassDiagramAssociationTest {
                 "Class %s may not be contained in more than one component, but is contained in [A, B]",
                 ClassInFooAndBarPackage.class.getName()));
 
-        javaClassDiagramAssociation.getTargetPackageIdentifiers(classContainedInTwoComponents);
+        javaClassDiagramAssociation.getAllowedTargetComponentsOf(classContainedInTwoComponents);
     }
 
     @Test
@@ -116,6 +142,14 @@ public class JavaClassDiagramAssociationTest {
         return new JavaClassDiagramAssociation(diagram);
     }
 
+    private static Set<String> namesOf(Set<PlantUmlComponent> components) {
+        Set<String> result = new HashSet<>();
+        for (PlantUmlComponent component : components) {
+            result.add(component.getComponentName().asString());
+        }
+        return result;
+    }
+
     private static URL toUrl(File file) {
         try {
             return file.toURI().toURL();